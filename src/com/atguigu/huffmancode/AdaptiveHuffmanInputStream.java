@@ -0,0 +1,82 @@
+package com.atguigu.huffmancode;
+
+import java.io.DataInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Ӧշѹ, ȡ AdaptiveHuffmanOutputStream д
+ * ʱͱͬĹ, ԲҪ
+ */
+public class AdaptiveHuffmanInputStream extends FilterInputStream {
+
+	private final AdaptiveHuffmanTree tree = new AdaptiveHuffmanTree();
+	private final BitInputStream bitIn;
+	private boolean eof;
+
+	public AdaptiveHuffmanInputStream(InputStream in) throws IOException {
+		super(in);
+		if (new DataInputStream(in).readInt() != AdaptiveHuffmanOutputStream.MAGIC) {
+			throw new IOException("Ӧշѹ");
+		}
+		this.bitIn = new BitInputStream(in);
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (eof) {
+			return -1;
+		}
+		int symbol = tree.decode(bitIn);
+		if (symbol == AdaptiveHuffmanTree.EOF) {
+			eof = true;
+			return -1;
+		}
+		return symbol;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		int n = 0;
+		while (n < len) {
+			int symbol = read();
+			if (symbol < 0) {
+				break;
+			}
+			b[off + n++] = (byte) symbol;
+		}
+		return n == 0 ? -1 : n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = 0;
+		while (skipped < n && read() >= 0) {
+			skipped++;
+		}
+		return skipped;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return 0;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+		throw new IOException("֧ mark/reset");
+	}
+}
@@ -0,0 +1,73 @@
+package com.atguigu.huffmancode;
+
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Ӧշѹ, ֻɨһ
+ * ˵
+ * 1. ԭ HuffmanCode Ҫ getNodes ɨһͳ,  zip ɨһ, Ҫô, Ҫô
+ * 2. ÿһֽھֱӱ, Ȼ( AdaptiveHuffmanTree), ڴǹ̶, ʺʵʱ
+ * 3. flush() Ѿճֽڵıдȥ, 8λĲҪȺݻ finish()
+ *
+ * ĸʽ: int MAGIC, Ȼǰλ, ǽı, һֽڵλ0
+ */
+public class AdaptiveHuffmanOutputStream extends FilterOutputStream {
+
+	public static final int MAGIC = 0x48554641; // "HUFA"
+
+	private final AdaptiveHuffmanTree tree = new AdaptiveHuffmanTree();
+	private final BitOutputStream bitOut;
+	private boolean finished;
+
+	public AdaptiveHuffmanOutputStream(OutputStream out) throws IOException {
+		super(out);
+		new DataOutputStream(out).writeInt(MAGIC);
+		this.bitOut = new BitOutputStream(out);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (finished) {
+			throw new IOException("Ѿ");
+		}
+		tree.encode(b & 0xff, bitOut);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (finished) {
+			throw new IOException("Ѿ");
+		}
+		for (int i = off, end = off + len; i < end; i++) {
+			tree.encode(b[i] & 0xff, bitOut);
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		bitOut.flush();
+	}
+
+	/**
+	 * д, رյײ
+	 */
+	public void finish() throws IOException {
+		if (!finished) {
+			tree.encode(AdaptiveHuffmanTree.EOF, bitOut);
+			bitOut.finish();
+			finished = true;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			finish();
+		} finally {
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package com.atguigu.huffmancode;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Ӧ(̬)շ, FGK 㷨
+ * ˼·
+ * 1. һʼֻһ NYT (Not Yet Transmitted, ûֹֽڶʾ)
+ * 2. ֽڵһγʱ: д NYT ı, д 9 λԭʼֵ; NYT ѳһµ NYT ֽڵҶ
+ * 3. ÿһֽ, ʹҶϰȨֵ 1, ֮ǰȺͬȨֵĽбĽλ,
+ *    ʼ"ֵ": , Ȩֵ, ֵܽ, һֱһúշ
+ * 4. ͽͬĹͬһ, ԲҪ, Ҳֻɨһ
+ *
+ * 㰴Ŵ, ԽԽ, ı ROOT
+ * ʱ(Ȩֵֽڡ), λú͸㲻
+ */
+class AdaptiveHuffmanTree {
+
+	/** ֽ֮ټһ, һγʱԭʼֵ 9 λʾ */
+	static final int EOF = 256;
+	static final int SYMBOL_BITS = 9;
+	private static final int SYMBOLS = 257;
+	private static final int ROOT = 2 * SYMBOLS;
+
+	private final long[] weights = new long[ROOT + 1];
+	private final int[] parents = new int[ROOT + 1];
+	private final int[] lefts = new int[ROOT + 1];
+	private final int[] rights = new int[ROOT + 1];
+	private final int[] symbols = new int[ROOT + 1]; // ҶӶӦֽ, ڲ NYT Ϊ -1
+	private final int[] leaves = new int[SYMBOLS]; // ÿֽڵҶӱ, ûֹΪ -1
+	private int nyt = ROOT; // NYT ı
+
+	private final int[] path = new int[ROOT + 1]; // ʱҶӵ·
+
+	AdaptiveHuffmanTree() {
+		Arrays.fill(leaves, -1);
+		Arrays.fill(symbols, -1);
+		Arrays.fill(lefts, -1);
+		Arrays.fill(rights, -1);
+		parents[ROOT] = -1;
+	}
+
+	/**
+	 * д symbol ı, Ȼ
+	 */
+	void encode(int symbol, BitOutputStream out) throws IOException {
+		int node = leaves[symbol];
+		if (node < 0) {
+			writePath(nyt, out);
+			out.writeBits(symbol, SYMBOL_BITS);
+		} else {
+			writePath(node, out);
+		}
+		update(symbol);
+	}
+
+	/**
+	 * һ, Ȼ
+	 * @return ֽ,  EOF
+	 */
+	int decode(BitInputStream in) throws IOException {
+		int node = ROOT;
+		while (symbols[node] < 0 && node != nyt) {
+			node = in.readBits(1) == 0 ? lefts[node] : rights[node];
+		}
+		int symbol = node == nyt ? in.readBits(SYMBOL_BITS) : symbols[node];
+		if (symbol >= SYMBOLS) {
+			throw new IOException("ЧӦշ");
+		}
+		update(symbol);
+		return symbol;
+	}
+
+	/**
+	 * дӸ node ·,  0  1
+	 */
+	private void writePath(int node, BitOutputStream out) throws IOException {
+		int length = 0;
+		while (node != ROOT) {
+			int parent = parents[node];
+			path[length++] = rights[parent] == node ? 1 : 0;
+			node = parent;
+		}
+		//·ǴҶϼǵ, д; չһһд, ٵô
+		long bits = 0;
+		int count = 0;
+		for (int i = length - 1; i >= 0; i--) {
+			bits = (bits << 1) | path[i];
+			if (++count == 56) {
+				out.writeBits(bits, count);
+				bits = 0;
+				count = 0;
+			}
+		}
+		if (count > 0) {
+			out.writeBits(bits, count);
+		}
+	}
+
+	/**
+	 * һֽں
+	 */
+	private void update(int symbol) {
+		int node = leaves[symbol];
+		if (node < 0) {
+			//NYT : µ NYT, ҺֽڵҶ
+			int oldNyt = nyt;
+			int leaf = oldNyt - 1;
+			nyt = oldNyt - 2;
+			lefts[oldNyt] = nyt;
+			rights[oldNyt] = leaf;
+			parents[nyt] = oldNyt;
+			parents[leaf] = oldNyt;
+			symbols[leaf] = symbol;
+			leaves[symbol] = leaf;
+			node = leaf;
+		}
+		while (node >= 0) {
+			//ͬȨֵбĽ㽻, ܺԼĸ㽻
+			int leader = node;
+			while (leader < ROOT && weights[leader + 1] == weights[node]) {
+				leader++;
+			}
+			if (leader != node && leader != parents[node]) {
+				swap(node, leader);
+				node = leader;
+			}
+			weights[node]++;
+			node = parents[node];
+		}
+	}
+
+	/**
+	 *  a  b λϵ
+	 */
+	private void swap(int a, int b) {
+		long weight = weights[a];
+		weights[a] = weights[b];
+		weights[b] = weight;
+		int symbol = symbols[a];
+		symbols[a] = symbols[b];
+		symbols[b] = symbol;
+		int left = lefts[a];
+		lefts[a] = lefts[b];
+		lefts[b] = left;
+		int right = rights[a];
+		rights[a] = rights[b];
+		rights[b] = right;
+		relink(a);
+		relink(b);
+		if (nyt == a) {
+			nyt = b;
+		} else if (nyt == b) {
+			nyt = a;
+		}
+	}
+
+	/**
+	 * node λûݺ, ĺӵĸҶӵı
+	 */
+	private void relink(int node) {
+		if (symbols[node] >= 0) {
+			leaves[symbols[node]] = node;
+		} else if (lefts[node] >= 0) {
+			parents[lefts[node]] = node;
+			parents[rights[node]] = node;
+		}
+	}
+}
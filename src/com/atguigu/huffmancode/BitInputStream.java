@@ -0,0 +1,143 @@
+package com.atguigu.huffmancode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * λȡ,  BitOutputStream Ӧ, λȳ(MSB first)
+ * ˵
+ * 1. һ 64 λ long λ, Чλڸλ, peekBits ֻһλ
+ * 2. ĩβ 0 , ʲôʱͣɵ(ԭʼȻЧλ)
+ * 3.  FileChannel ʱ MAP_SIZE һһεڴӳ, ֱӶӳ, Ƶ
+ */
+public class BitInputStream implements Closeable {
+
+	private static final int BUFFER_SIZE = 8192;
+	/**  FileChannel ʱÿӳĴС */
+	public static final int MAP_SIZE = 1 << 26;
+
+	private final InputStream in; //  channel ѡһ
+	private final byte[] buf;
+	private int pos; // buf һҪֽ
+	private int limit; // buf Чֽ
+
+	private final FileChannel channel;
+	private MappedByteBuffer mapped; // ǰӳһ
+	private long mappedEnd; // ǰӳļеĽλ
+
+	private boolean eof; // ײǷѾ
+
+	private long acc; // λ,  bitCount λЧ
+	private int bitCount; // λеЧλ
+	private long bitsRead; // Ѿѵλ
+
+	public BitInputStream(InputStream in) {
+		this.in = in;
+		this.buf = new byte[BUFFER_SIZE];
+		this.channel = null;
+	}
+
+	/**
+	 * ļ position λÿʼ, ͨڴӳȡ
+	 * @param channel ļ
+	 * @param position ʼλ
+	 */
+	public BitInputStream(FileChannel channel, long position) {
+		this.in = null;
+		this.buf = null;
+		this.channel = channel;
+		this.mappedEnd = position;
+	}
+
+	/**
+	 * λ 57 λ, ĩβ 0
+	 */
+	private void refill() throws IOException {
+		while (bitCount <= 56) {
+			acc |= (long) nextByte() << (56 - bitCount);
+			bitCount += 8;
+		}
+	}
+
+	/**
+	 * @return һֽ(0 ~ 255), 󷵻 0
+	 */
+	private int nextByte() throws IOException {
+		if (channel != null) {
+			if (mapped == null || !mapped.hasRemaining()) {
+				long size = channel.size();
+				if (eof || mappedEnd >= size) {
+					eof = true;
+					return 0;
+				}
+				long length = Math.min(MAP_SIZE, size - mappedEnd);
+				mapped = channel.map(FileChannel.MapMode.READ_ONLY, mappedEnd, length);
+				mappedEnd += length;
+			}
+			return mapped.get() & 0xff;
+		}
+		if (pos == limit) {
+			if (!eof) {
+				limit = in.read(buf, 0, BUFFER_SIZE);
+				pos = 0;
+			}
+			if (eof || limit <= 0) {
+				eof = true;
+				limit = 0;
+				return 0;
+			}
+		}
+		return buf[pos++] & 0xff;
+	}
+
+	/**
+	 * һ½ n λ, 
+	 * @param n λ, 1 ~ 31
+	 * @return  n λɵ, ڵλ
+	 */
+	public int peekBits(int n) throws IOException {
+		if (bitCount < n) {
+			refill();
+		}
+		return (int) (acc >>> (64 - n));
+	}
+
+	/**
+	 * ѵ n λ, ǰѾ peekBits  n λ
+	 * @param n λ
+	 */
+	public void skipBits(int n) {
+		acc <<= n;
+		bitCount -= n;
+		bitsRead += n;
+	}
+
+	/**
+	 * ȡ n λ
+	 * @param n λ, 1 ~ 31
+	 */
+	public int readBits(int n) throws IOException {
+		int bits = peekBits(n);
+		skipBits(n);
+		return bits;
+	}
+
+	/**
+	 * @return Ѿѵλ
+	 */
+	public long getBitsRead() {
+		return bitsRead;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+		} else {
+			in.close();
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package com.atguigu.huffmancode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * λд
+ * ˵
+ * 1. һ 64 λ long ۼ, ֽܹںдֽڻ, дײ OutputStream  Channel
+ * 2. λȳ(MSB first), ԭ "1010100010111..." ַҵ˳һ
+ * 3. ÿ (long bits, int length) ʾ, Ҫ StringBuilder  Integer.parseInt
+ * 4. д Channel ʱõֱӻ(direct buffer), дļʱҪٴӶ︴һ
+ */
+public class BitOutputStream implements Closeable {
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final int DIRECT_BUFFER_SIZE = 1 << 16;
+
+	private final OutputStream out; //  channel ѡһ
+	private final WritableByteChannel channel;
+	private final ByteBuffer buf; // ֽڻ
+
+	private long acc; // λۼ,  bitCount λЧ
+	private int bitCount; // ۼлûдλ
+	private long totalBits; // һд˶λ(󲹵0)
+
+	public BitOutputStream(OutputStream out) {
+		this.out = out;
+		this.channel = null;
+		this.buf = ByteBuffer.allocate(BUFFER_SIZE);
+	}
+
+	public BitOutputStream(WritableByteChannel channel) {
+		this.out = null;
+		this.channel = channel;
+		this.buf = ByteBuffer.allocateDirect(DIRECT_BUFFER_SIZE);
+	}
+
+	/**
+	 * д bits ĵ len λ, λȳ
+	 * @param bits 
+	 * @param len ĳ, 0 ~ 64
+	 */
+	public void writeBits(long bits, int len) throws IOException {
+		if (len > 56) {
+			//56λдλ, ֤ۼŵ
+			writeBits(bits >>> 32, len - 32);
+			bits &= 0xFFFFFFFFL;
+			len = 32;
+		}
+		if (bitCount + len > 64) {
+			drain();
+		}
+		acc = (acc << len) | (bits & ((1L << len) - 1));
+		bitCount += len;
+		totalBits += len;
+	}
+
+	/**
+	 * ۼеֽд뻺, д bitCount < 8
+	 */
+	private void drain() throws IOException {
+		while (bitCount >= 8) {
+			bitCount -= 8;
+			buf.put((byte) (acc >>> bitCount));
+			if (!buf.hasRemaining()) {
+				flushBuffer();
+			}
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if (buf.position() == 0) {
+			return;
+		}
+		if (channel != null) {
+			buf.flip();
+			while (buf.hasRemaining()) {
+				channel.write(buf);
+			}
+		} else {
+			out.write(buf.array(), 0, buf.position());
+		}
+		buf.clear();
+	}
+
+	/**
+	 * Ѿճֽڵݶдײ, 8λĲۼ, ֮󻹿Լд
+	 */
+	public void flush() throws IOException {
+		drain();
+		flushBuffer();
+		if (out != null) {
+			out.flush();
+		}
+	}
+
+	/**
+	 * д: 8λĲڵλ0, ճһֽ, Ȼȫдײ
+	 * עⲻرյײ, ú󻹿Լײд
+	 */
+	public void finish() throws IOException {
+		drain();
+		if (bitCount > 0) {
+			int pad = 8 - bitCount;
+			writeBits(0, pad);
+			totalBits -= pad; // 0 totalBits
+			drain();
+		}
+		flushBuffer();
+		if (out != null) {
+			out.flush();
+		}
+	}
+
+	/**
+	 * @return һд˶λ(󲹵0)
+	 */
+	public long getTotalBits() {
+		return totalBits;
+	}
+
+	@Override
+	public void close() throws IOException {
+		finish();
+		if (channel != null) {
+			channel.close();
+		} else {
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,305 @@
+package com.atguigu.huffmancode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * ֿĺշѹļ
+ * ˼·
+ * 1. ļ̶С(Ĭ 1MB)гɿ, ÿһ鵥ͳơշ, ֮以
+ * 2. ѹͽѹѿ齻 ForkJoinPool д, ļҪһζڴ, Ҳû 2GB 
+ * 3. ļĩβп, ֻѹеĳһ()
+ *
+ * ļʽ()
+ * ļͷ: int MAGIC, byte VERSION, int С, long ԭʼ, int 
+ * :     256 ֽڵı볤ȱ(ʽշ, ֻ泤) + λ
+ * : ÿһ long ƫ + int ѹĳ
+ * ļβ: long ƫ, int MAGIC
+ */
+public class HuffmanBlockFile {
+
+	public static final int MAGIC = 0x48554642; // "HUFB"
+	public static final byte VERSION = 1;
+	public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+	private static final int HEADER_SIZE = 4 + 1 + 4 + 8 + 4;
+	private static final int INDEX_ENTRY_SIZE = 8 + 4;
+	private static final int TRAILER_SIZE = 8 + 4;
+	/** ļβһηһ ByteBuffer дͶ,  int */
+	private static final int MAX_BLOCK_COUNT = (Integer.MAX_VALUE - TRAILER_SIZE) / INDEX_ENTRY_SIZE;
+
+	public static void main(String[] args) throws IOException {
+		String srcFile = "d://Uninstall.xml";
+		String zipFile = "d://Uninstall.hufb";
+		String dstFile = "d://Uninstall2.xml";
+
+		zipFile(srcFile, zipFile);
+		System.out.println("ѹļok~~");
+
+		unZipFile(zipFile, dstFile);
+		System.out.println("ѹɹ!");
+
+		byte[] first = readBlock(zipFile, 0);
+		System.out.println("1ĳ=" + first.length);
+	}
+
+	/**
+	 * ĬϵĿС͹ ForkJoinPool ѹļ
+	 * @param srcFile Ҫѹļ
+	 * @param dstFile ѹļ
+	 */
+	public static void zipFile(String srcFile, String dstFile) throws IOException {
+		zipFile(srcFile, dstFile, DEFAULT_BLOCK_SIZE, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * ֿ鲢ѹļ
+	 * ͬʱѹĿǲжȵ, ѹõĿ鰴˳д, ռõڴļС޹
+	 * @param srcFile Ҫѹļ
+	 * @param dstFile ѹļ
+	 * @param blockSize С
+	 * @param pool ѹõ̳߳
+	 */
+	public static void zipFile(String srcFile, String dstFile, int blockSize, ForkJoinPool pool) throws IOException {
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("blockSize 0");
+		}
+		try (FileChannel in = FileChannel.open(Paths.get(srcFile), StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(Paths.get(dstFile), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			long length = in.size();
+			long count = (length + blockSize - 1) / blockSize;
+			if (count > MAX_BLOCK_COUNT) {
+				throw new IOException(" " + count + "  " + MAX_BLOCK_COUNT + ",  blockSize");
+			}
+			int blockCount = (int) count;
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			header.putInt(MAGIC).put(VERSION).putInt(blockSize).putLong(length).putInt(blockCount);
+			header.flip();
+			writeFully(out, header);
+
+			long[] offsets = new long[blockCount];
+			int[] sizes = new int[blockCount];
+			ArrayDeque<ForkJoinTask<byte[]>> window = new ArrayDeque<>();
+			int maxInFlight = pool.getParallelism() * 2;
+			int next = 0;
+			for (int i = 0; i < blockCount; i++) {
+				//˾ȰĿдȥ
+				while (next < blockCount && window.size() < maxInFlight) {
+					final long position = (long) next * blockSize;
+					final int size = (int) Math.min(blockSize, length - position);
+					window.add(pool.submit(() -> encodeBlock(readFully(in, position, size))));
+					next++;
+				}
+				byte[] block = join(window.poll());
+				offsets[i] = out.position();
+				sizes[i] = block.length;
+				writeFully(out, ByteBuffer.wrap(block));
+			}
+
+			//дļβ
+			long indexOffset = out.position();
+			ByteBuffer index = ByteBuffer.allocate(blockCount * INDEX_ENTRY_SIZE + TRAILER_SIZE);
+			for (int i = 0; i < blockCount; i++) {
+				index.putLong(offsets[i]).putInt(sizes[i]);
+			}
+			index.putLong(indexOffset).putInt(MAGIC);
+			index.flip();
+			writeFully(out, index);
+		}
+	}
+
+	/**
+	 * ù ForkJoinPool ѹļ
+	 * @param zipFile ѹļ
+	 * @param dstFile ѹļ
+	 */
+	public static void unZipFile(String zipFile, String dstFile) throws IOException {
+		unZipFile(zipFile, dstFile, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * ֿ鲢нѹļ
+	 * ÿһѹλȷ( * С), ԸֱдĿļĶӦλ, ҪŶ
+	 * @param zipFile ѹļ
+	 * @param dstFile ѹļ
+	 * @param pool ѹõ̳߳
+	 */
+	public static void unZipFile(String zipFile, String dstFile, ForkJoinPool pool) throws IOException {
+		try (FileChannel in = FileChannel.open(Paths.get(zipFile), StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(Paths.get(dstFile), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			final Index index = readIndex(in);
+			List<ForkJoinTask<?>> tasks = new ArrayList<>();
+			for (int i = 0; i < index.blockCount; i++) {
+				final int block = i;
+				tasks.add(pool.submit(() -> {
+					byte[] data = decodeBlock(readFully(in, index.offsets[block], index.sizes[block]),
+							index.blockLength(block));
+					writeFully(out, ByteBuffer.wrap(data), (long) block * index.blockSize);
+					return null;
+				}));
+			}
+			for (ForkJoinTask<?> task : tasks) {
+				join(task);
+			}
+		}
+	}
+
+	/**
+	 * ֻѹеһ
+	 * @param zipFile ѹļ
+	 * @param blockIndex ,  0 ʼ
+	 * @return һԭʼ
+	 */
+	public static byte[] readBlock(String zipFile, int blockIndex) throws IOException {
+		try (FileChannel in = FileChannel.open(Paths.get(zipFile), StandardOpenOption.READ)) {
+			Index index = readIndex(in);
+			if (blockIndex < 0 || blockIndex >= index.blockCount) {
+				throw new IndexOutOfBoundsException("=" + blockIndex + ", =" + index.blockCount);
+			}
+			return decodeBlock(readFully(in, index.offsets[blockIndex], index.sizes[blockIndex]),
+					index.blockLength(blockIndex));
+		}
+	}
+
+	/**
+	 * ѹһ: 256 ֽڵı볤ȱ + λ
+	 */
+	static byte[] encodeBlock(byte[] data) throws IOException {
+		long[] counts = new long[256];
+		HuffmanTreeBuilder.count(data, 0, data.length, counts);
+		int[] codeLens = HuffmanTreeBuilder.codeLengths(counts, HuffmanTreeBuilder.DEFAULT_MAX_CODE_LENGTH);
+		//ֻ泤, ÷ʽշ
+		long[] codeBits = new long[256];
+		HuffmanCode.canonicalCodes(codeLens, codeBits);
+		ByteArrayOutputStream bos = new ByteArrayOutputStream(256 + data.length / 2);
+		for (int symbol = 0; symbol < 256; symbol++) {
+			bos.write(codeLens[symbol]);
+		}
+		BitOutputStream bitOut = new BitOutputStream(bos);
+		HuffmanCode.zip(data, 0, data.length, codeBits, codeLens, bitOut);
+		bitOut.finish();
+		return bos.toByteArray();
+	}
+
+	/**
+	 * ѹһ
+	 * @param block encodeBlock Ľ
+	 * @param length һԭʼ
+	 */
+	static byte[] decodeBlock(byte[] block, int length) throws IOException {
+		if (block.length < 256) {
+			throw new EOFException("鲻");
+		}
+		long[] codeBits = new long[256];
+		int[] codeLens = new int[256];
+		for (int symbol = 0; symbol < 256; symbol++) {
+			codeLens[symbol] = block[symbol] & 0xff;
+		}
+		HuffmanCode.canonicalCodes(codeLens, codeBits);
+		byte[] data = new byte[length];
+		BitInputStream in = new BitInputStream(new ByteArrayInputStream(block, 256, block.length - 256));
+		new HuffmanDecodeTable(codeBits, codeLens).decode(in, data, 0, length);
+		return data;
+	}
+
+	/**
+	 * 
+	 */
+	private static class Index {
+		int blockSize;
+		long length;
+		int blockCount;
+		long[] offsets;
+		int[] sizes;
+
+		int blockLength(int block) {
+			return (int) Math.min(blockSize, length - (long) block * blockSize);
+		}
+	}
+
+	private static Index readIndex(FileChannel in) throws IOException {
+		ByteBuffer header = ByteBuffer.wrap(readFully(in, 0, HEADER_SIZE));
+		if (header.getInt() != MAGIC) {
+			throw new IOException("Ƿֿĺշѹļ");
+		}
+		byte version = header.get();
+		if (version != VERSION) {
+			throw new IOException("ֵ֧İ汾: " + version);
+		}
+		Index index = new Index();
+		index.blockSize = header.getInt();
+		index.length = header.getLong();
+		index.blockCount = header.getInt();
+		if (index.blockCount < 0 || index.blockCount > MAX_BLOCK_COUNT) {
+			throw new IOException("ļͷ, =" + index.blockCount);
+		}
+
+		ByteBuffer trailer = ByteBuffer.wrap(readFully(in, in.size() - TRAILER_SIZE, TRAILER_SIZE));
+		long indexOffset = trailer.getLong();
+		if (trailer.getInt() != MAGIC) {
+			throw new IOException("ļβ");
+		}
+		ByteBuffer entries = ByteBuffer.wrap(readFully(in, indexOffset, index.blockCount * INDEX_ENTRY_SIZE));
+		index.offsets = new long[index.blockCount];
+		index.sizes = new int[index.blockCount];
+		for (int i = 0; i < index.blockCount; i++) {
+			index.offsets[i] = entries.getLong();
+			index.sizes[i] = entries.getInt();
+		}
+		return index;
+	}
+
+	/**
+	 *  position ʼ size ֽ, FileChannel İλöд̰߳ȫ, ͬʱ
+	 */
+	private static byte[] readFully(FileChannel in, long position, int size) throws IOException {
+		byte[] data = new byte[size];
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		while (buffer.hasRemaining()) {
+			if (in.read(buffer, position + buffer.position()) < 0) {
+				throw new EOFException("ļ");
+			}
+		}
+		return data;
+	}
+
+	private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			out.write(buffer);
+		}
+	}
+
+	private static void writeFully(FileChannel out, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += out.write(buffer, position);
+		}
+	}
+
+	/**
+	 * ȴ, ׳ IOException ԭ׳
+	 */
+	private static <T> T join(ForkJoinTask<T> task) throws IOException {
+		try {
+			return task.join();
+		} catch (RuntimeException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw e;
+		}
+	}
+}
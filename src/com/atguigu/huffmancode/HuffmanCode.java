@@ -1,11 +1,19 @@
 package com.atguigu.huffmancode;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -36,13 +44,11 @@ public class HuffmanCode {
 		byte[] contentBytes = content.getBytes();
 		System.out.println(contentBytes.length); //40
 		
-		byte[] huffmanCodesBytes= huffmanZip(contentBytes);
+		byte[] huffmanCodesBytes= HuffmanEncoder.current().encode(contentBytes);
 		System.out.println("ѹĽ:" + Arrays.toString(huffmanCodesBytes) + " = " + huffmanCodesBytes.length);
 		
 		
-		//һbyteToBitString
-		//System.out.println(byteToBitString((byte)1));
-		byte[] sourceBytes = decode(huffmanCodes, huffmanCodesBytes);
+		byte[] sourceBytes = HuffmanDecoder.current().decode(huffmanCodesBytes);
 		
 		System.out.println("ԭַ=" + new String(sourceBytes)); // "i like like like java do you like a java"
 		*/
@@ -74,45 +80,60 @@ public class HuffmanCode {
 		
 	}
 	
+	//ѹļĸʽ(), öд byte[]  Map<Byte,String>
+	//1. int MAGIC, byte VERSION
+	//2. long ԭʼļֽ, ѹʱôֽھͣ, Ҫٲһֽмλ
+	//3. 볤ȱ,  writeCodeLens, Ƿʽշ, ֻҪȾܻԭ, ű 259 ֽ
+	//4. λ, һֽڲ8λʱڵλ0
+	public static final int MAGIC = 0x48554646; // "HUFF"
+	public static final byte VERSION = 1;
+	
 	//дһɶѹļĽѹ
 	/**
-	 * 
+	 * ѹͨڴӳȡ, ֱӻд FileChannel, ڴռúļС޹
 	 * @param zipFile ׼ѹļ
 	 * @param dstFile ļѹĸ·
 	 */
 	public static void unZipFile(String zipFile, String dstFile) {
 		
-		//ļ
-		InputStream is = null;
-		//һ
-		ObjectInputStream ois = null;
-		//ļ
-		OutputStream os = null;
+		//ļͨ
+		FileChannel in = null;
+		//ļͨ
+		FileChannel out = null;
 		try {
-			//ļ
-			is = new FileInputStream(zipFile);
-			//һ  isĶ
-			ois = new ObjectInputStream(is);
-			//ȡbyte  huffmanBytes
-			byte[] huffmanBytes = (byte[])ois.readObject();
-			//ȡշ
-			Map<Byte,String> huffmanCodes = (Map<Byte,String>)ois.readObject();
+			in = FileChannel.open(Paths.get(zipFile), StandardOpenOption.READ);
+			//ȡļͷ, DataInputStream ûл, ļͷ in λڱ볤ȱ
+			DataInputStream is = new DataInputStream(Channels.newInputStream(in));
+			if(is.readInt() != MAGIC) {
+				throw new IOException("Ǻշѹļ: " + zipFile);
+			}
+			byte version = is.readByte();
+			if(version != VERSION) {
+				throw new IOException("ֵ֧İ汾: " + version);
+			}
+			long length = is.readLong();
+			//ȡ볤ȱ, ԭʽշ
+			int[] codeLens = readCodeLens(is);
+			long[] codeBits = new long[256];
+			canonicalCodes(codeLens, codeBits);
 			
-			//
-			byte[] bytes = decode(huffmanCodes, huffmanBytes);
-			//bytes д뵽Ŀļ
-			os = new FileOutputStream(dstFile);
-			//дݵ dstFile ļ
-			os.write(bytes);
+			//ӳ߶߽, дĿļ
+			out = FileChannel.open(Paths.get(dstFile), StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+			BitInputStream bitIn = new BitInputStream(in, in.position());
+			new HuffmanDecodeTable(codeBits, codeLens).decode(bitIn, length, out);
 		} catch (Exception e) {
 			// TODO: handle exception
 			System.out.println(e.getMessage());
 		} finally {
 			
 			try {
-				os.close();
-				ois.close();
-				is.close();
+				if(out != null) {
+					out.close();
+				}
+				if(in != null) {
+					in.close();
+				}
 			} catch (Exception e2) {
 				// TODO: handle exception
 				System.out.println(e2.getMessage());
@@ -123,45 +144,67 @@ public class HuffmanCode {
 	
 	//дһļѹ
 	/**
-	 * 
+	 * ɨ: һͳÿֽڳֵĴ, ڶ
+	 * Դļ BitInputStream.MAP_SIZE һһεڴӳ, 鶼ֱӶӳ, ļƵ
+	 * ѹֱӻд FileChannel
 	 * @param srcFile 㴫ϣѹļȫ·
 	 * @param dstFile ѹѹļŵĸĿ¼
 	 */
 	public static void zipFile(String srcFile, String dstFile) {
 		
-		//
-		OutputStream os = null;
-		ObjectOutputStream oos = null;
-		//ļ
-		FileInputStream is = null;
+		//ͨ
+		FileChannel out = null;
+		//ļͨ
+		FileChannel in = null;
 		try {
-			//ļ
-			is = new FileInputStream(srcFile);
-			//һԴļСһbyte[]
-			byte[] b = new byte[is.available()];
-			//ȡļ
-			is.read(b);
-			//ֱӶԴļѹ
-			byte[] huffmanBytes = huffmanZip(b);
-			//ļ, ѹļ
-			os = new FileOutputStream(dstFile);
-			//һļObjectOutputStream
-			oos = new ObjectOutputStream(os);
-			// շֽдѹļ
-			oos.writeObject(huffmanBytes); //ǰ
-			//Զķʽд շ룬ΪԺǻָԴļʱʹ
-			//עһҪѺշ дѹļ
-			oos.writeObject(huffmanCodes);
+			in = FileChannel.open(Paths.get(srcFile), StandardOpenOption.READ);
+			long length = in.size();
 			
+			//һ: ͳÿֽڳֵĴ
+			long[] counts = new long[256];
+			for(long position = 0; position < length; position += BitInputStream.MAP_SIZE) {
+				ByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, position, Math.min(BitInputStream.MAP_SIZE, length - position));
+				HuffmanTreeBuilder.count(mapped, counts);
+			}
+			
+			//ɳֱִӵõ볤, ٻɷʽշ
+			int[] codeLens = HuffmanTreeBuilder.codeLengths(counts, HuffmanTreeBuilder.DEFAULT_MAX_CODE_LENGTH);
+			long[] codeBits = new long[256];
+			canonicalCodes(codeLens, codeBits);
+			
+			//дļͷ
+			out = FileChannel.open(Paths.get(dstFile), StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+			ByteArrayOutputStream header = new ByteArrayOutputStream(272);
+			DataOutputStream os = new DataOutputStream(header);
+			os.writeInt(MAGIC);
+			os.writeByte(VERSION);
+			os.writeLong(length);
+			writeCodeLens(os, codeLens);
+			ByteBuffer headerBuffer = ByteBuffer.wrap(header.toByteArray());
+			while(headerBuffer.hasRemaining()) {
+				out.write(headerBuffer);
+			}
+			
+			//ڶ: ߶ӳ߱
+			BitOutputStream bitOut = new BitOutputStream(out);
+			for(long position = 0; position < length; position += BitInputStream.MAP_SIZE) {
+				ByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, position, Math.min(BitInputStream.MAP_SIZE, length - position));
+				zip(mapped, codeBits, codeLens, bitOut);
+			}
+			bitOut.finish();
 			
 		}catch (Exception e) {
 			// TODO: handle exception
 			System.out.println(e.getMessage());
 		}finally {
 			try {
-				is.close();
-				oos.close();
-				os.close();
+				if(in != null) {
+					in.close();
+				}
+				if(out != null) {
+					out.close();
+				}
 			}catch (Exception e) {
 				// TODO: handle exception
 				System.out.println(e.getMessage());
@@ -170,6 +213,73 @@ public class HuffmanCode {
 		
 	}
 	
+	/**
+	 * д볤ȱ, д, ֶ
+	 * 1. : byte 0, byte first, byte last, Ȼ first ~ last ÿֽڵı볤
+	 * 2. б: byte 1, byte -1, Ȼÿֵֽںı볤, ʺϳֵֽںֺܷɢ
+	 * @param os 
+	 * @param codeLens ÿֽڵı볤, 0 ʾûг
+	 */
+	public static void writeCodeLens(DataOutput os, int[] codeLens) throws IOException {
+		int first = 0;
+		while(first < 255 && codeLens[first] == 0) {
+			first++;
+		}
+		int last = 255;
+		while(last > first && codeLens[last] == 0) {
+			last--;
+		}
+		int count = 0;
+		for(int len : codeLens) {
+			if(len > 0) {
+				count++;
+			}
+		}
+		if(count > 0 && count * 2 < last - first + 1) {
+			os.writeByte(1);
+			os.writeByte(count - 1);
+			for(int symbol = first; symbol <= last; symbol++) {
+				if(codeLens[symbol] > 0) {
+					os.writeByte(symbol);
+					os.writeByte(codeLens[symbol]);
+				}
+			}
+		} else {
+			os.writeByte(0);
+			os.writeByte(first);
+			os.writeByte(last);
+			for(int symbol = first; symbol <= last; symbol++) {
+				os.writeByte(codeLens[symbol]);
+			}
+		}
+	}
+	
+	/**
+	 * 볤ȱ,  writeCodeLens Ӧ
+	 * @param is 
+	 * @return ÿֽڵı볤
+	 */
+	public static int[] readCodeLens(DataInput is) throws IOException {
+		int[] codeLens = new int[256];
+		int type = is.readUnsignedByte();
+		if(type == 1) {
+			int count = is.readUnsignedByte() + 1;
+			for(int i = 0; i < count; i++) {
+				int symbol = is.readUnsignedByte();
+				codeLens[symbol] = is.readUnsignedByte();
+			}
+		} else if(type == 0) {
+			int first = is.readUnsignedByte();
+			int last = is.readUnsignedByte();
+			for(int symbol = first; symbol <= last; symbol++) {
+				codeLens[symbol] = is.readUnsignedByte();
+			}
+		} else {
+			throw new IOException("볤ȱʽ: " + type);
+		}
+		return codeLens;
+	}
+	
 	//ݵĽѹ
 	//˼·
 	//1. huffmanCodeBytes [-88, -65, -56, -65, -56, -65, -55, 77, -57, 6, -24, -14, -117, -4, -60, -90, 28]
@@ -179,100 +289,36 @@ public class HuffmanCode {
 	
 	//дһɶѹݵĽ
 	/**
-	 * 
+	 *  length ֽھͣ, ѹļԭʼֽһ, ٴһֽڲмλЧ:
+	 * ԭ󲻹8λĲַڵλ, ⼸λ 0 ͷʱλ 0 Ͷ, ټֽ
 	 * @param huffmanCodes շ map
-	 * @param huffmanBytes շõֽ
+	 * @param huffmanBytes շõֽ(zip Ľ)
+	 * @param length ԭֽĳ
 	 * @return ԭַӦ
 	 */
-	private static byte[] decode(Map<Byte,String> huffmanCodes, byte[] huffmanBytes) {
+	static byte[] decode(Map<Byte,String> huffmanCodes, byte[] huffmanBytes, int length) {
 		
-		//1. ȵõ huffmanBytes Ӧ Ƶַ  ʽ 1010100010111...
-		StringBuilder stringBuilder = new StringBuilder();
-		//byteתɶƵַ
-		for(int i = 0; i < huffmanBytes.length; i++) {
-			byte b = huffmanBytes[i];
-			//жǲһֽ
-			boolean flag = (i == huffmanBytes.length - 1);
-			stringBuilder.append(byteToBitString(!flag, b));
-		}
-		//ַװָĺշн
-		//ѺշеΪѯ a->100 100->a
-		Map<String, Byte>  map = new HashMap<String,Byte>();
+		//1. Ѻշת (long bits, int length) ʽ, 
+		//   ٰ huffmanBytes ת "1010100010111..." ַ, Ҳһλһλ substring  map
+		long[] codeBits = new long[256];
+		int[] codeLens = new int[256];
 		for(Map.Entry<Byte, String> entry: huffmanCodes.entrySet()) {
-			map.put(entry.getValue(), entry.getKey());
+			int symbol = entry.getKey() & 0xff;
+			codeBits[symbol] = Long.parseLong(entry.getValue(), 2);
+			codeLens[symbol] = entry.getValue().length();
 		}
+		HuffmanDecodeTable table = new HuffmanDecodeTable(codeBits, codeLens);
 		
-		//Ҫϣbyte
-		List<Byte> list = new ArrayList<>();
-		//i ɾ,ɨ stringBuilder 
-		for(int  i = 0; i < stringBuilder.length(); ) {
-			int count = 1; // Сļ
-			boolean flag = true;
-			Byte b = null;
-			
-			while(flag) {
-				//1010100010111...
-				//ȡ key 1 
-				String key = stringBuilder.substring(i, i+count);//i countƶָƥ䵽һַ
-				b = map.get(key);
-				if(b == null) {//˵ûƥ䵽
-					count++;
-				}else {
-					//ƥ䵽
-					flag = false;
-				}
-			}
-			list.add(b);
-			i += count;//i ֱƶ count	
-		}
-		//forѭlistоʹеַ  "i like like like java do you like a java"
-		//list еݷ뵽byte[] 
-		byte b[] = new byte[list.size()];
-		for(int i = 0;i < b.length; i++) {
-			b[i] = list.get(i);
+		//2. , ֽڶǴӸλʼ, һֽڵλ 0  length ֽں󲻻ٶ
+		byte[] bytes = new byte[length];
+		try {
+			table.decode(new BitInputStream(new ByteArrayInputStream(huffmanBytes)), bytes, 0, length);
+		} catch (IOException e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
 		}
-		return b;
+		return bytes;
 		
 	}
- 	
-	/**
-	 * һbyte תһƵַ, ԲοҽJava Ƶԭ룬룬
-	 * @param b  byte
-	 * @param flag ־ǷҪλtrue ʾҪλfalseʾ, һֽڣ貹λ
-	 * @return Ǹb ӦĶƵַעǰ뷵أ
-	 */
-	private static String byteToBitString(boolean flag, byte b) {
-		//ʹñ b
-		int temp = b; // b ת int
-		//ǻڲλ
-		if(flag) {
-			temp |= 256; //λ 256  1 0000 0000  | 0000 0001 => 1 0000 0001
-		}
-		String str = Integer.toBinaryString(temp); //صtempӦĶƵĲ
-		if(flag) {
-			return str.substring(str.length() - 8);
-		} else {
-			return str;
-		}
-	}
-	
-	//ʹһǰķװǵĵ.
-	/**
-	 * 
-	 * @param bytes ԭʼַӦֽ
-	 * @return Ǿ շ봦ֽ(ѹ)
-	 */
-	private static byte[] huffmanZip(byte[] bytes) {
-		List<Node> nodes = getNodes(bytes);
-		// nodes ĺշ
-		Node huffmanTreeRoot = createHuffmanTree(nodes);
-		//Ӧĺշ( շ)
-		Map<Byte, String> huffmanCodes = getCodes(huffmanTreeRoot);
-		//ɵĺշ룬ѹõѹĺշֽ
-		byte[] huffmanCodeBytes = zip(bytes, huffmanCodes);
-		return huffmanCodeBytes;
-	}
-	
 	
 	//дһַӦbyte[] 飬ͨɵĺշһշ ѹbyte[]
 	/**
@@ -285,63 +331,101 @@ public class HuffmanCode {
 	 * => Ӧ byte[] huffmanCodeBytes   8λӦһ byte,뵽 huffmanCodeBytes
 	 * huffmanCodeBytes[0] =  10101000() => byte  [Ƶ  10101000=> 10101000 - 1 => 10100111()=> 11011000= -88 ]
 	 * huffmanCodeBytes[1] = -88
+	 * 󲻹8λʱڵλ 0, ʱҪԭĳ bytes.length,  decode
 	 */
-	private static byte[] zip(byte[] bytes, Map<Byte, String> huffmanCodes) {
+	static byte[] zip(byte[] bytes, Map<Byte, String> huffmanCodes) {
 		
-		//1. huffmanCodes   bytes ת  շӦַ
-		StringBuilder stringBuilder = new StringBuilder();
-		//bytes  
-		for(byte b: bytes) {
-			stringBuilder.append(huffmanCodes.get(b));
+		//1.  Map<Byte,String> ʽıת (long bits, int length) ʽ,  byte & 0xff ±
+		long[] codeBits = new long[256];
+		int[] codeLens = new int[256];
+		for(Map.Entry<Byte, String> entry: huffmanCodes.entrySet()) {
+			int symbol = entry.getKey() & 0xff;
+			codeBits[symbol] = Long.parseLong(entry.getValue(), 2);
+			codeLens[symbol] = entry.getValue().length();
 		}
 		
-		//System.out.println(" stringBuilder~~~=" + stringBuilder.toString());
-		
-		// "1010100010111111110..." ת byte[]
-		
-		//ͳƷ  byte[] huffmanCodeBytes 
-		//һ仰 int len = (stringBuilder.length() + 7) / 8;
-		int len;
-		if(stringBuilder.length() % 8 == 0) {
-			len = stringBuilder.length() / 8;
-		} else {
-			len = stringBuilder.length() / 8 + 1;
+		//2. λд, ƴ "1010100010111..." ַ, ÿλֻռ1λһchar
+		ByteArrayOutputStream bos = new ByteArrayOutputStream(bytes.length / 2 + 16);
+		try {
+			BitOutputStream bitOut = new BitOutputStream(bos);
+			zip(bytes, 0, bytes.length, codeBits, codeLens, bitOut);
+			bitOut.finish();
+		} catch (IOException e) {
+			//ByteArrayOutputStream ׳ IOException
+			throw new IllegalStateException(e);
+		}
+		return bos.toByteArray();
+	}
+	
+	/**
+	 * ܣ (long bits, int length) ʽı,  bytes[off, off+len) λд bitOut
+	 * @param bytes ԭʼֽ
+	 * @param off ʼ±
+	 * @param len ֽڸ
+	 * @param codeBits ÿֽ(byte & 0xff)Ӧĺշ
+	 * @param codeLens ÿֽڶӦĺշĳ
+	 * @param bitOut λ
+	 */
+	public static void zip(byte[] bytes, int off, int len, long[] codeBits, int[] codeLens, BitOutputStream bitOut) throws IOException {
+		for(int i = off, end = off + len; i < end; i++) {
+			int symbol = bytes[i] & 0xff;
+			bitOut.writeBits(codeBits[symbol], codeLens[symbol]);
 		}
-		// 洢ѹ byte
-		byte[] huffmanCodeBytes = new byte[len];
-		int index = 0;//¼ǵڼbyte
-		for (int i = 0; i < stringBuilder.length(); i += 8) { //Ϊÿ8λӦһbyte,Բ +8
-				String strByte;
-				if(i+8 > stringBuilder.length()) {//8λ
-					strByte = stringBuilder.substring(i);
-				}else{
-					strByte = stringBuilder.substring(i, i + 8);
-				}	
-				//strByte תһbyte,뵽 huffmanCodeBytes
-				huffmanCodeBytes[index] = (byte)Integer.parseInt(strByte, 2);
-				index++;
+	}
+	
+	/**
+	 * ܣ src  position ~ limit ֽڰλд bitOut, src ڴӳļ, ḴƵ
+	 * @param src ԭʼ
+	 * @param codeBits ÿֽڶӦĺշ
+	 * @param codeLens ÿֽڶӦĺշĳ
+	 * @param bitOut λ
+	 */
+	public static void zip(ByteBuffer src, long[] codeBits, int[] codeLens, BitOutputStream bitOut) throws IOException {
+		for(int i = src.position(), limit = src.limit(); i < limit; i++) {
+			int symbol = src.get(i) & 0xff;
+			bitOut.writeBits(codeBits[symbol], codeLens[symbol]);
 		}
-		return huffmanCodeBytes;
+	}
+	
+	/**
+	 * ܣʽѹ, ߶ is ߰λд os, ڴֻͱ(256)Լй, ĴС޹
+	 * Ҫͳƺ, ɨһͳƳִ,  getCodes(root, codeBits, codeLens) õ
+	 * @param is ԭʼ
+	 * @param codeBits ÿֽڶӦĺշ
+	 * @param codeLens ÿֽڶӦĺշĳ
+	 * @param os ѹд, һֽڲ8λʱڵλ0
+	 * @return дЧλ(󲹵0)
+	 */
+	public static long zip(InputStream is, long[] codeBits, int[] codeLens, OutputStream os) throws IOException {
+		BitOutputStream bitOut = new BitOutputStream(os);
+		byte[] buffer = new byte[8192];
+		int n;
+		while((n = is.read(buffer)) != -1) {
+			zip(buffer, 0, n, codeBits, codeLens, bitOut);
+		}
+		bitOut.finish();
+		return bitOut.getTotalBits();
 	}
 	
 	//ɺշӦĺշ
 	//˼·:
 	//1. շ Map<Byte,String> ʽ
 	//   ɵĺշ{32=01, 97=100, 100=11000, 117=11001, 101=1110, 118=11011, 105=101, 121=11010, 106=0010, 107=1111, 108=000, 111=0011}
-	static Map<Byte, String> huffmanCodes = new HashMap<Byte,String>();
-	//2. ɺշʾҪȥƴ·, һStringBuilder 洢ĳҶӽ·
-	static StringBuilder stringBuilder = new StringBuilder();
+	//2. ɺշʾҪȥƴ·, һStringBuilder 洢ĳҶӽ·
+	//ע:  StringBuilder ÿεʱ½ľֲ, ɾ̬Ա, ߳ͬʱѹụา
 	
 	
 	//Ϊ˵÷㣬 getCodes
-	private static Map<Byte, String> getCodes(Node root) {
+	static Map<Byte, String> getCodes(Node root) {
 		if(root == null) {
 			return null;
 		}
+		Map<Byte, String> huffmanCodes = new HashMap<Byte,String>();
+		StringBuilder stringBuilder = new StringBuilder();
 		//root
-		getCodes(root.left, "0", stringBuilder);
+		getCodes(root.left, "0", stringBuilder, huffmanCodes);
 		//root
-		getCodes(root.right, "1", stringBuilder);
+		getCodes(root.right, "1", stringBuilder, huffmanCodes);
 		return huffmanCodes;
 	}
 	
@@ -350,8 +434,9 @@ public class HuffmanCode {
 	 * @param node  
 	 * @param code  · ӽ 0, ӽ 1
 	 * @param stringBuilder ƴ·
+	 * @param huffmanCodes źշ
 	 */
-	private static void getCodes(Node node, String code, StringBuilder stringBuilder) {
+	private static void getCodes(Node node, String code, StringBuilder stringBuilder, Map<Byte, String> huffmanCodes) {
 		StringBuilder stringBuilder2 = new StringBuilder(stringBuilder);
 		//code 뵽 stringBuilder2
 		stringBuilder2.append(code);
@@ -360,9 +445,9 @@ public class HuffmanCode {
 			if(node.data == null) { //Ҷӽ
 				//ݹ鴦
 				//ݹ
-				getCodes(node.left, "0", stringBuilder2);
+				getCodes(node.left, "0", stringBuilder2, huffmanCodes);
 				//ҵݹ
-				getCodes(node.right, "1", stringBuilder2);
+				getCodes(node.right, "1", stringBuilder2, huffmanCodes);
 			} else { //˵һҶӽ
 				//ͱʾҵĳҶӽ
 				huffmanCodes.put(node.data, stringBuilder2.toString());
@@ -370,6 +455,69 @@ public class HuffmanCode {
 		}
 	}
 	
+	/**
+	 * ܣõ root Ҷӽĺշ,  (long bits, int length) ʾ, ŵ
+	 * @param root շĸ
+	 * @param codeBits ű, ± byte & 0xff
+	 * @param codeLens űĳ, ûгֵֽڳΪ 0
+	 */
+	public static void getCodes(Node root, long[] codeBits, int[] codeLens) {
+		if(root == null) {
+			return;
+		}
+		if(root.data != null) {
+			//ֻһֽʱ, Ҷӽ, һΪ1ı 0
+			codeBits[root.data & 0xff] = 0;
+			codeLens[root.data & 0xff] = 1;
+			return;
+		}
+		getCodes(root, 0, 0, codeBits, codeLens);
+	}
+	
+	private static void getCodes(Node node, long code, int length, long[] codeBits, int[] codeLens) {
+		if(node.data == null) { //Ҷӽ,  0  1
+			getCodes(node.left, code << 1, length + 1, codeBits, codeLens);
+			getCodes(node.right, (code << 1) | 1, length + 1, codeBits, codeLens);
+		} else { //Ҷӽ
+			codeBits[node.data & 0xff] = code;
+			codeLens[node.data & 0xff] = length;
+		}
+	}
+	
+	/**
+	 * ܣÿֽڵı볤, ɷʽշ(canonical Huffman code)
+	 * : ȶ̵ıǰ, ͬʱֽСǰ, μ 1, ȱ䳤ʱƲ 0
+	 * ֻҪÿֽڵı볤, ѹʱܵõȫͬı
+	 * @param codeLens ÿֽ(byte & 0xff)Ӧı볤, 0 ʾûг
+	 * @param codeBits ɵıŵ
+	 */
+	public static void canonicalCodes(int[] codeLens, long[] codeBits) {
+		int maxLen = 0;
+		for(int len : codeLens) {
+			maxLen = Math.max(maxLen, len);
+		}
+		//1. ͳÿֳжٸ
+		int[] lenCounts = new int[maxLen + 1];
+		for(int len : codeLens) {
+			lenCounts[len]++;
+		}
+		lenCounts[0] = 0;
+		//2. ÿֳȵĵһ
+		long[] nextCode = new long[maxLen + 1];
+		long code = 0;
+		for(int len = 1; len <= maxLen; len++) {
+			code = (code + lenCounts[len - 1]) << 1;
+			nextCode[len] = code;
+		}
+		//3. ֽڴСη
+		for(int symbol = 0; symbol < codeLens.length; symbol++) {
+			int len = codeLens[symbol];
+			if(len > 0) {
+				codeBits[symbol] = nextCode[len]++;
+			}
+		}
+	}
+	
 	//ǰķ
 	private static void preOrder(Node root) {
 		if(root != null) {
@@ -384,7 +532,7 @@ public class HuffmanCode {
 	 * @param bytes ֽ
 	 * @return صľ List ʽ   [Node[date=97 ,weight = 5], Node[]date=32,weight = 9]......],
 	 */
-	private static List<Node> getNodes(byte[] bytes) {
+	static List<Node> getNodes(byte[] bytes) {
 		
 		//1һArrayList
 		ArrayList<Node> nodes = new ArrayList<Node>();
@@ -410,7 +558,7 @@ public class HuffmanCode {
 	}
 	
 	//ͨList Ӧĺշ
-	private static Node createHuffmanTree(List<Node> nodes) {
+	static Node createHuffmanTree(List<Node> nodes) {
 		
 		while(nodes.size() > 1) {
 			//, С
@@ -444,10 +592,10 @@ public class HuffmanCode {
 //Node ,ݺȨֵ
 class Node implements Comparable<Node>  {
 	Byte data; // (ַ)'a' => 97 ' ' => 32
-	int weight; //Ȩֵ, ʾֵַĴ
+	long weight; //Ȩֵ, ʾֵַĴ, ļܳ int ķΧ
 	Node left;//
 	Node right;
-	public Node(Byte data, int weight) {
+	public Node(Byte data, long weight) {
 		
 		this.data = data;
 		this.weight = weight;
@@ -455,7 +603,7 @@ class Node implements Comparable<Node>  {
 	@Override
 	public int compareTo(Node o) {
 		// С
-		return this.weight - o.weight;
+		return Long.compare(this.weight, o.weight);
 	}
 	
 	public String toString() {
@@ -0,0 +1,247 @@
+package com.atguigu.huffmancode;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * շѹܲ
+ * ˵
+ * 1. ɵ: Ӣı־ֽڡֲƫ, С 1KB  1GB(ָ)
+ * 2. ÿһԤ, ظִе MIN_TIME_NANOS, (MB/s, ԭʼݴС)
+ *    ÿ MB ԭʼݷڴ桢GC ѹ
+ * 3. Աȵʵ:
+ *    (1) Map<Byte,String> һ: getNodes(HashMap ͳ) + createHuffmanTree + getCodes,  zip/decode,
+ *        zip  decode ڲѾ˰λͲ, ƴַд, дѾû
+ *    (2) HuffmanEncoder/HuffmanDecoder, zipFile/unZipFile, HuffmanBlockFile
+ * 4. ÿһʱǰһѹ + ѹ, ԭʼݶԱ, Ծͱ(zipFile/unZipFile ʱֻӡ쳣, Ҫ)
+ * 5. ֻֽ㵱ǰ߳, HuffmanBlockFile ̳߳ڴ㲻
+ *
+ * ÷: java com.atguigu.huffmancode.HuffmanCodeBenchmark [С...], СԴ K/M/G, Ĭ 1K 64K 1M 16M
+ * ʱǵõ -Xmx, Map һ׳ MAP_MAX_SIZE , ̫
+ */
+public class HuffmanCodeBenchmark {
+
+	private static final long MIN_TIME_NANOS = 500_000_000L;
+	private static final int WARMUP_ROUNDS = 3;
+	/** getNodes  HashMap<Byte,Integer> һһͳ, , ô */
+	private static final int MAP_MAX_SIZE = 16 << 20;
+
+	private static final String[] CORPORA = { "text", "log", "random", "skewed" };
+
+	public static void main(String[] args) throws IOException {
+		String[] sizes = args.length > 0 ? args : new String[] { "1K", "64K", "1M", "16M" };
+		System.out.printf("%-8s %-8s %-22s %10s %12s %6s %8s%n", "", "С", "", "MB/s", "B/MB", "GC", "ѹ");
+		for (String size : sizes) {
+			int length = parseSize(size);
+			for (String corpus : CORPORA) {
+				byte[] data = generate(corpus, length, 2019);
+				run(corpus, size, data);
+			}
+		}
+	}
+
+	private static void run(String corpus, String size, byte[] data) throws IOException {
+		final int length = data.length;
+
+		//1. Map<Byte,String> : HashMap ͳ + Node  + getCodes
+		if (length <= MAP_MAX_SIZE) {
+			final Map<Byte, String> codes = HuffmanCode.getCodes(HuffmanCode.createHuffmanTree(HuffmanCode.getNodes(data)));
+			final byte[] zipped = HuffmanCode.zip(data, codes);
+			boolean correct = Arrays.equals(HuffmanCode.decode(codes, zipped, length), data);
+			report(corpus, size, "zip(Map)", length, zipped.length, correct, () -> {
+				HuffmanCode.zip(data, HuffmanCode.getCodes(HuffmanCode.createHuffmanTree(HuffmanCode.getNodes(data))));
+			});
+			report(corpus, size, "decode(Map)", length, zipped.length, correct,
+					() -> HuffmanCode.decode(codes, zipped, length));
+		}
+
+		//2. ʵı/
+		final byte[] encoded = HuffmanEncoder.current().encode(data);
+		boolean correct = Arrays.equals(HuffmanDecoder.current().decode(encoded), data);
+		report(corpus, size, "HuffmanEncoder", length, encoded.length, correct, () -> HuffmanEncoder.current().encode(data));
+		report(corpus, size, "HuffmanDecoder", length, encoded.length, correct, () -> HuffmanDecoder.current().decode(encoded));
+
+		//3. ļ: zipFile/unZipFile ͷֿ鲢е HuffmanBlockFile
+		//   ʱļ deleteOnExit, м쳣Ҳ
+		File src = createTempFile(".src");
+		File zip = createTempFile(".huf");
+		File dst = createTempFile(".dst");
+		try {
+			Files.write(src.toPath(), data);
+			HuffmanCode.zipFile(src.getPath(), zip.getPath());
+			HuffmanCode.unZipFile(zip.getPath(), dst.getPath());
+			correct = sameContent(dst, data);
+			report(corpus, size, "zipFile", length, zip.length(), correct,
+					() -> HuffmanCode.zipFile(src.getPath(), zip.getPath()));
+			report(corpus, size, "unZipFile", length, zip.length(), correct,
+					() -> HuffmanCode.unZipFile(zip.getPath(), dst.getPath()));
+
+			HuffmanBlockFile.zipFile(src.getPath(), zip.getPath());
+			HuffmanBlockFile.unZipFile(zip.getPath(), dst.getPath());
+			correct = sameContent(dst, data);
+			report(corpus, size, "HuffmanBlockFile.zip", length, zip.length(), correct,
+					() -> HuffmanBlockFile.zipFile(src.getPath(), zip.getPath()));
+			report(corpus, size, "HuffmanBlockFile.unzip", length, zip.length(), correct,
+					() -> HuffmanBlockFile.unZipFile(zip.getPath(), dst.getPath()));
+		} finally {
+			src.delete();
+			zip.delete();
+			dst.delete();
+		}
+	}
+
+	/**
+	 * ҪԵĲ
+	 */
+	private interface Action {
+		void run() throws IOException;
+	}
+
+	/**
+	 * @param correct ʱǰǴѹ + ѹ, Ƿԭʼһ
+	 */
+	private static void report(String corpus, String size, String name, int length, long compressed, boolean correct,
+			Action action) throws IOException {
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			action.run();
+		}
+		long gcBefore = gcCount();
+		long allocatedBefore = allocatedBytes();
+		long start = System.nanoTime();
+		long elapsed;
+		int rounds = 0;
+		do {
+			action.run();
+			rounds++;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < MIN_TIME_NANOS);
+		long allocated = allocatedBytes() - allocatedBefore;
+		long gc = gcCount() - gcBefore;
+
+		double megabytes = (double) length * rounds / (1 << 20);
+		System.out.printf("%-8s %-8s %-22s %10.1f %12.0f %6d %8.3f%s%n", corpus, size, name,
+				megabytes / (elapsed / 1e9), allocatedBefore < 0 ? -1 : allocated / megabytes, gc,
+				length == 0 ? 1.0 : (double) compressed / length, correct ? "" : " !");
+	}
+
+	private static File createTempFile(String suffix) throws IOException {
+		File file = File.createTempFile("huffman", suffix);
+		file.deleteOnExit();
+		return file;
+	}
+
+	/**
+	 * ļǲǺ data һ, һһεض, ļڴ
+	 */
+	private static boolean sameContent(File file, byte[] data) throws IOException {
+		if (file.length() != data.length) {
+			return false;
+		}
+		byte[] buffer = new byte[1 << 16];
+		try (InputStream in = new FileInputStream(file)) {
+			int pos = 0;
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				for (int i = 0; i < n; i++) {
+					if (buffer[i] != data[pos + i]) {
+						return false;
+					}
+				}
+				pos += n;
+			}
+			return pos == data.length;
+		}
+	}
+
+	/**
+	 * @return ǰ߳һֽ, ֧ʱ -1; ߳( ForkJoinPool )Ĳ
+	 */
+	private static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
+	private static long gcCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, bean.getCollectionCount());
+		}
+		return count;
+	}
+
+	private static int parseSize(String size) {
+		String s = size.trim().toUpperCase();
+		long unit = 1;
+		char last = s.charAt(s.length() - 1);
+		if (last == 'K' || last == 'M' || last == 'G') {
+			unit = last == 'K' ? 1 << 10 : last == 'M' ? 1 << 20 : 1 << 30;
+			s = s.substring(0, s.length() - 1);
+		}
+		long bytes = Long.parseLong(s) * unit;
+		if (bytes > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("̫: " + size);
+		}
+		return (int) bytes;
+	}
+
+	private static final String[] WORDS = { "the", "of", "and", "to", "in", "a", "is", "that", "for", "it", "as",
+			"was", "with", "be", "by", "on", "not", "he", "i", "this", "are", "or", "his", "from", "at", "which",
+			"but", "have", "an", "had", "they", "you", "were", "their", "one", "all", "we", "can", "her", "has",
+			"there", "been", "if", "more", "when", "will", "would", "who", "so", "no", "java", "like", "data",
+			"structure", "huffman", "tree", "node", "binary", "search", "sort" };
+	private static final String[] LEVELS = { "INFO", "INFO", "INFO", "DEBUG", "WARN", "ERROR" };
+
+	/**
+	 * 
+	 * @param corpus text/log/random/skewed
+	 * @param length ֽ
+	 * @param seed , ͬͬ
+	 */
+	static byte[] generate(String corpus, int length, long seed) {
+		Random random = new Random(seed);
+		byte[] data = new byte[length];
+		if ("random".equals(corpus)) {
+			random.nextBytes(data);
+			return data;
+		}
+		if ("skewed".equals(corpus)) {
+			//ηֲ: ÿֵֵĸһһ
+			for (int i = 0; i < length; i++) {
+				data[i] = (byte) Math.min(255, Long.numberOfTrailingZeros(random.nextLong() | Long.MIN_VALUE));
+			}
+			return data;
+		}
+		StringBuilder sb = new StringBuilder(Math.min(length, 1 << 16) + 256);
+		int pos = 0;
+		long time = 1546300800000L;
+		while (pos < length) {
+			sb.setLength(0);
+			if ("log".equals(corpus)) {
+				time += random.nextInt(1000);
+				sb.append(time).append(" [").append(LEVELS[random.nextInt(LEVELS.length)]).append("] thread-")
+						.append(random.nextInt(16)).append(" com.atguigu.huffmancode.HuffmanCode - ");
+			}
+			int words = 5 + random.nextInt(10);
+			for (int i = 0; i < words; i++) {
+				//ԽǰĵʳֵԽ
+				int index = (int) (WORDS.length * Math.pow(random.nextDouble(), 3));
+				sb.append(WORDS[index]).append(i == words - 1 ? ".\n" : " ");
+			}
+			for (int i = 0; i < sb.length() && pos < length; i++) {
+				data[pos++] = (byte) sb.charAt(i);
+			}
+		}
+		return data;
+	}
+}
@@ -0,0 +1,192 @@
+package com.atguigu.huffmancode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * ĺշ
+ * ˼·
+ * 1. ԭ decode һλһλ, ÿһζҪ substring ٲ HashMap
+ * 2. һο TABLE_BITS λ, ֱ⼸λ±ȥ, ǽֽںͱĳ
+ * 3.  TABLE_BITS ı, ָһӱ, ٿļλ, һֽһһαܽ
+ * 4. ֻҪǰ׺ܽ, ҪǷʽ, ʽ HuffmanCode.canonicalCodes ɳ
+ */
+public class HuffmanDecodeTable {
+
+	/** ÿһ࿴λ */
+	public static final int TABLE_BITS = 10;
+
+	//ĸʽ
+	//Ҷ: 8λǽֽ, 8~15λһѵλ, Ϊ 0 ʾû
+	//: λ 1, 24~30λӱλ, 24λӱ entries еʼλ
+	private static final int LINK = 1 << 31;
+
+	private int[] entries = new int[1 << TABLE_BITS];
+	private int size; // entries Ѿʹõ
+	private int rootBits; // һλ
+
+	/**
+	 * ݱ
+	 * @param codeBits ÿֽ(byte & 0xff)Ӧĺշ
+	 * @param codeLens ÿֽڶӦĺշĳ, 0 ʾûг
+	 */
+	public HuffmanDecodeTable(long[] codeBits, int[] codeLens) {
+		rebuild(codeBits, codeLens);
+	}
+
+	/**
+	 * µıؽ, ԭ entries , ʱÿ鶼һ±
+	 * @param codeBits ÿֽ(byte & 0xff)Ӧĺշ
+	 * @param codeLens ÿֽڶӦĺշĳ, 0 ʾûг
+	 */
+	public void rebuild(long[] codeBits, int[] codeLens) {
+		Arrays.fill(entries, 0, size, 0);
+		size = 0;
+		int[] symbols = new int[256];
+		int n = 0;
+		for (int symbol = 0; symbol < 256; symbol++) {
+			if (codeLens[symbol] > 0) {
+				symbols[n++] = symbol;
+			}
+		}
+		int root = build(codeBits, codeLens, symbols, n, 0);
+		rootBits = (root >>> 24) & 0x7f;
+	}
+
+	/**
+	 * Ϊǰ consumed λͬЩֽڽһű
+	 * @return ӱλ << 24 | ӱʼλ
+	 */
+	private int build(long[] codeBits, int[] codeLens, int[] symbols, int n, int consumed) {
+		int max = 0;
+		for (int i = 0; i < n; i++) {
+			max = Math.max(max, codeLens[symbols[i]] - consumed);
+		}
+		int width = Math.max(1, Math.min(TABLE_BITS, max));
+		int offset = allocate(1 << width);
+
+		//1. һܽı, ֱҶ, ûõλмȡֵ
+		//2. ı, һ width λ, ÿٽһӱ
+		int[] groupCounts = new int[1 << width];
+		for (int i = 0; i < n; i++) {
+			int symbol = symbols[i];
+			int rest = codeLens[symbol] - consumed;
+			long bits = codeBits[symbol];
+			if (rest <= width) {
+				int index = (int) (bits & ((1L << rest) - 1)) << (width - rest);
+				int entry = symbol | (rest << 8);
+				for (int j = 0, count = 1 << (width - rest); j < count; j++) {
+					entries[offset + index + j] = entry;
+				}
+			} else {
+				groupCounts[(int) (bits >>> (rest - width)) & ((1 << width) - 1)]++;
+			}
+		}
+		for (int index = 0; index < groupCounts.length; index++) {
+			if (groupCounts[index] == 0) {
+				continue;
+			}
+			int[] group = new int[groupCounts[index]];
+			int m = 0;
+			for (int i = 0; i < n; i++) {
+				int symbol = symbols[i];
+				int rest = codeLens[symbol] - consumed;
+				if (rest > width && ((int) (codeBits[symbol] >>> (rest - width)) & ((1 << width) - 1)) == index) {
+					group[m++] = symbol;
+				}
+			}
+			//Ƚӱд, ӱʱ entries ܻݻ
+			int sub = build(codeBits, codeLens, group, m, consumed + width);
+			entries[offset + index] = LINK | sub;
+		}
+		return (width << 24) | offset;
+	}
+
+	private int allocate(int count) {
+		if (size + count > entries.length) {
+			int[] bigger = new int[Math.max(entries.length * 2, size + count)];
+			System.arraycopy(entries, 0, bigger, 0, size);
+			entries = bigger;
+		}
+		int offset = size;
+		size += count;
+		return offset;
+	}
+
+	/**
+	 * һֽ
+	 * @param in λ
+	 * @return ֽ(0 ~ 255)
+	 */
+	public int decodeSymbol(BitInputStream in) throws IOException {
+		int width = rootBits;
+		int entry = entries[in.peekBits(width)];
+		while (entry < 0) { //, һӱ
+			in.skipBits(width);
+			width = (entry >>> 24) & 0x7f;
+			entry = entries[(entry & 0xffffff) + in.peekBits(width)];
+		}
+		int len = (entry >>> 8) & 0xff;
+		if (len == 0) {
+			throw new IOException("Чĺշ, λ=" + in.getBitsRead());
+		}
+		in.skipBits(len);
+		return entry & 0xff;
+	}
+
+	/**
+	 *  count ֽڵ dst
+	 * @param in λ
+	 * @param dst Ž
+	 * @param off dst Ŀʼ±
+	 * @param count Ҫֽ
+	 */
+	public void decode(BitInputStream in, byte[] dst, int off, int count) throws IOException {
+		for (int i = off, end = off + count; i < end; i++) {
+			dst[i] = (byte) decodeSymbol(in);
+		}
+	}
+
+	/**
+	 * ʽ:  is ѹ,  count ֽд os
+	 * @param is ѹ
+	 * @param count ԭʼݵֽ
+	 * @param os д
+	 */
+	public void decode(InputStream is, long count, OutputStream os) throws IOException {
+		BitInputStream in = new BitInputStream(is);
+		byte[] buffer = new byte[8192];
+		while (count > 0) {
+			int n = (int) Math.min(buffer.length, count);
+			decode(in, buffer, 0, n);
+			os.write(buffer, 0, n);
+			count -= n;
+		}
+	}
+
+	/**
+	 *  count ֽд channel, ֱӻ, дļʱҪٴӶ︴һ
+	 * @param in λ
+	 * @param count ԭʼݵֽ
+	 * @param out д
+	 */
+	public void decode(BitInputStream in, long count, WritableByteChannel out) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+		while (count > 0) {
+			int n = (int) Math.min(buffer.capacity(), count);
+			for (int i = 0; i < n; i++) {
+				buffer.put((byte) decodeSymbol(in));
+			}
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				out.write(buffer);
+			}
+			buffer.clear();
+			count -= n;
+		}
+	}
+}
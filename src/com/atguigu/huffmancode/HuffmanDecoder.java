@@ -0,0 +1,64 @@
+package com.atguigu.huffmancode;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * շ,  HuffmanEncoder Ӧ
+ * ˵
+ * 1. ״̬ڶ, ûо̬ĿɱԱ, ̸ͬ߳øĽ, Ҫ
+ * 2. ڶ︴, ʱֻؽ, ·
+ * 3. һͬһʱֻܱһ߳ʹ,  current() ȡǰ߳ԼĽ
+ */
+public class HuffmanDecoder {
+
+	private static final ThreadLocal<HuffmanDecoder> LOCAL = ThreadLocal.withInitial(HuffmanDecoder::new);
+
+	private final long[] codeBits = new long[256];
+	private HuffmanDecodeTable table;
+
+	/**
+	 * @return ǰ߳ԼĽ
+	 */
+	public static HuffmanDecoder current() {
+		return LOCAL.get();
+	}
+
+	/**
+	 *  HuffmanEncoder.encode(src, off, len, out) дһ
+	 * עԤ, in 鲻б, һǰ ByteArrayInputStream
+	 * @param in Ŀ
+	 * @param dst Ž
+	 * @param off dst Ŀʼ±
+	 * @param len ԭʼ
+	 */
+	public void decode(InputStream in, byte[] dst, int off, int len) throws IOException {
+		int[] codeLens = HuffmanCode.readCodeLens(new DataInputStream(in));
+		HuffmanCode.canonicalCodes(codeLens, codeBits);
+		if (table == null) {
+			table = new HuffmanDecodeTable(codeBits, codeLens);
+		} else {
+			table.rebuild(codeBits, codeLens);
+		}
+		table.decode(new BitInputStream(in), dst, off, len);
+	}
+
+	/**
+	 * ѹ HuffmanEncoder.encode(byte[]) Ľ
+	 * @param data ѹ
+	 * @return ԭʼ
+	 */
+	public byte[] decode(byte[] data) {
+		try {
+			ByteArrayInputStream in = new ByteArrayInputStream(data);
+			int length = new DataInputStream(in).readInt();
+			byte[] dst = new byte[length];
+			decode(in, dst, 0, length);
+			return dst;
+		} catch (IOException e) {
+			throw new IllegalArgumentException("ѹݸʽ: " + e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.atguigu.huffmancode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * շ
+ * ˵
+ * 1. ״̬ڶ, ûо̬ĿɱԱ, ̸ͬ߳øı, Ҫ
+ * 2. ͱڶ︴; ÿѹһ黹ǻһЩ: HuffmanTreeBuilder.codeLengths С(ֽڵй,
+ *    ͿĴС޹), Լ DataOutputStream  BitOutputStream( 8KB Ļ), СʱЩռıʹ
+ * 3. һͬһʱֻܱһ߳ʹ,  current() ȡǰ߳Լı
+ *
+ * Ŀ: 볤ȱ(HuffmanCode.writeCodeLens) + λ(һֽڵλ0)
+ */
+public class HuffmanEncoder {
+
+	private static final ThreadLocal<HuffmanEncoder> LOCAL = ThreadLocal.withInitial(HuffmanEncoder::new);
+
+	private final int maxCodeLength;
+	private final long[] counts = new long[256];
+	private final long[] codeBits = new long[256];
+
+	public HuffmanEncoder() {
+		this(HuffmanTreeBuilder.DEFAULT_MAX_CODE_LENGTH);
+	}
+
+	/**
+	 * @param maxCodeLength 󳤶
+	 */
+	public HuffmanEncoder(int maxCodeLength) {
+		this.maxCodeLength = maxCodeLength;
+	}
+
+	/**
+	 * @return ǰ߳Լı
+	 */
+	public static HuffmanEncoder current() {
+		return LOCAL.get();
+	}
+
+	/**
+	 * ѹ src[off, off+len), дĿ, ԭʼɵԼ¼
+	 * @param src ԭʼ
+	 * @param off ʼ±
+	 * @param len ֽ
+	 * @param out Ŀд
+	 */
+	public void encode(byte[] src, int off, int len, OutputStream out) throws IOException {
+		Arrays.fill(counts, 0);
+		HuffmanTreeBuilder.count(src, off, len, counts);
+		int[] codeLens = HuffmanTreeBuilder.codeLengths(counts, maxCodeLength);
+		HuffmanCode.canonicalCodes(codeLens, codeBits);
+
+		HuffmanCode.writeCodeLens(new DataOutputStream(out), codeLens);
+		BitOutputStream bitOut = new BitOutputStream(out);
+		HuffmanCode.zip(src, off, len, codeBits, codeLens, bitOut);
+		bitOut.finish();
+	}
+
+	/**
+	 * ѹ, : int ԭʼ + Ŀ,  HuffmanDecoder.decode(byte[]) ѹ
+	 * @param src ԭʼ
+	 * @return ѹ
+	 */
+	public byte[] encode(byte[] src) {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream(src.length / 2 + 64);
+		try {
+			new DataOutputStream(bos).writeInt(src.length);
+			encode(src, 0, src.length, bos);
+		} catch (IOException e) {
+			//ByteArrayOutputStream ׳ IOException
+			throw new IllegalStateException(e);
+		}
+		return bos.toByteArray();
+	}
+}
@@ -0,0 +1,118 @@
+package com.atguigu.huffmancode;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * շѹ, ȡ HuffmanOutputStream д, ÷ GZIPInputStream һ
+ * ÿνѹһŵ黺, ٽѹһ, ڴֻͿСй
+ */
+public class HuffmanInputStream extends FilterInputStream {
+
+	private final DataInputStream dataIn;
+	private final HuffmanDecoder decoder = new HuffmanDecoder();
+	private byte[] encoded = new byte[0]; // ѹĿ, 
+	private byte[] block = new byte[0]; // ѹĿ
+	private int pos; // һҪֽ
+	private int limit; // еֽ
+	private boolean eof; // Ƿβ
+
+	public HuffmanInputStream(InputStream in) throws IOException {
+		super(in);
+		this.dataIn = new DataInputStream(in);
+		if (dataIn.readInt() != HuffmanOutputStream.MAGIC) {
+			throw new IOException("Ǻշѹ");
+		}
+		byte version = dataIn.readByte();
+		if (version != HuffmanOutputStream.VERSION) {
+			throw new IOException("ֵ֧İ汾: " + version);
+		}
+	}
+
+	/**
+	 * һ鲢ѹ, β false
+	 */
+	private boolean nextBlock() throws IOException {
+		if (eof) {
+			return false;
+		}
+		int length = dataIn.readInt();
+		if (length == 0) {
+			eof = true;
+			return false;
+		}
+		int size = dataIn.readInt();
+		if (length < 0 || size < 0) {
+			throw new IOException("鳤ȴ");
+		}
+		if (encoded.length < size) {
+			encoded = new byte[size];
+		}
+		if (block.length < length) {
+			block = new byte[length];
+		}
+		dataIn.readFully(encoded, 0, size);
+		decoder.decode(new ByteArrayInputStream(encoded, 0, size), block, 0, length);
+		pos = 0;
+		limit = length;
+		return true;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (pos == limit && !nextBlock()) {
+			return -1;
+		}
+		return block[pos++] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (pos == limit && !nextBlock()) {
+			return -1;
+		}
+		int n = Math.min(len, limit - pos);
+		System.arraycopy(block, pos, b, off, n);
+		pos += n;
+		return n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = 0;
+		while (skipped < n) {
+			if (pos == limit && !nextBlock()) {
+				break;
+			}
+			int step = (int) Math.min(n - skipped, limit - pos);
+			pos += step;
+			skipped += step;
+		}
+		return skipped;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return limit - pos;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+		throw new IOException("֧ mark/reset");
+	}
+}
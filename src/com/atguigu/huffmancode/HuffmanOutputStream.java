@@ -0,0 +1,126 @@
+package com.atguigu.huffmancode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * շѹ, ÷ GZIPOutputStream һ
+ * ˼·
+ * 1. дȷŵ黺, һ HuffmanEncoder ѹ, Ȼдȥ
+ * 2. ڴֻͿСй, Ҫ HuffmanCode.zip(byte[], Map) ݷһ
+ * 3. flush() ѲһҲѹд, ʺ紫ʱҪԷյ
+ *
+ * ĸʽ()
+ * ͷ: int MAGIC, byte VERSION
+ * ÿһ: int ԭʼ(> 0), int ѹĳ, Ŀ( HuffmanEncoder)
+ * β: int 0
+ */
+public class HuffmanOutputStream extends FilterOutputStream {
+
+	public static final int MAGIC = 0x48554653; // "HUFS"
+	public static final byte VERSION = 1;
+	public static final int DEFAULT_BLOCK_SIZE = 1 << 17;
+
+	private final DataOutputStream dataOut;
+	private final HuffmanEncoder encoder = new HuffmanEncoder();
+	private final byte[] block; // 黺
+	private int count; // 黺еֽ
+	private final ByteArrayOutputStream encoded = new ByteArrayOutputStream(); // ѹĿ, 
+	private boolean finished;
+
+	public HuffmanOutputStream(OutputStream out) throws IOException {
+		this(out, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * @param out ײ
+	 * @param blockSize С
+	 */
+	public HuffmanOutputStream(OutputStream out, int blockSize) throws IOException {
+		super(out);
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("blockSize 0");
+		}
+		this.dataOut = new DataOutputStream(out);
+		this.block = new byte[blockSize];
+		dataOut.writeInt(MAGIC);
+		dataOut.writeByte(VERSION);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (finished) {
+			throw new IOException("Ѿ");
+		}
+		if (count == block.length) {
+			writeBlock();
+		}
+		block[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (finished) {
+			throw new IOException("Ѿ");
+		}
+		while (len > 0) {
+			if (count == block.length) {
+				writeBlock();
+			}
+			int n = Math.min(len, block.length - count);
+			System.arraycopy(b, off, block, count, n);
+			count += n;
+			off += n;
+			len -= n;
+		}
+	}
+
+	/**
+	 * ѹ黺еݲд
+	 */
+	private void writeBlock() throws IOException {
+		if (count == 0) {
+			return;
+		}
+		encoded.reset();
+		encoder.encode(block, 0, count, encoded);
+		dataOut.writeInt(count);
+		dataOut.writeInt(encoded.size());
+		encoded.writeTo(dataOut);
+		count = 0;
+	}
+
+	/**
+	 * ѲһҲѹд, ˢµײ
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (!finished) {
+			writeBlock();
+		}
+		out.flush();
+	}
+
+	/**
+	 * дʣµݺβ, رյײ
+	 */
+	public void finish() throws IOException {
+		if (!finished) {
+			writeBlock();
+			dataOut.writeInt(0);
+			finished = true;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			finish();
+		} finally {
+			out.close();
+		}
+	}
+}
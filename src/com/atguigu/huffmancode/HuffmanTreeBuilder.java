@@ -0,0 +1,322 @@
+package com.atguigu.huffmancode;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ *  Node ĺշ, ֱӵõÿֽڵı볤
+ * ˼·
+ * 1. ͳ:  long[256] ,  HashMap<Byte,Integer>, Ҳûװ;
+ *    ߳ʱд 4 ż, ֽͬдͬһɵĵȴ; ݺܴʱֶν ForkJoinPool ͳٺϲ
+ * 2. : ԭÿϲһξ Collections.sort һ,  O(n^2 log n)
+ *    ȰҶӰȨֵһ, Ȼкϲ: һҶ, һɵĽ
+ *    ½Ȩֵǲ, еĶͷС, ϲ O(n) 
+ * 3. 볤ȾҶӵ, Ӹһ鼴,  HuffmanCode.canonicalCodes õ
+ * 4. Ʊ󳤶(package-merge 㷨), ݺƫʱ, ƺĴСǹ̶
+ */
+public class HuffmanTreeBuilder {
+
+	/** ôֽڲŲͳ */
+	public static final int PARALLEL_THRESHOLD = 1 << 22;
+	/** Ĭϵı󳤶,  HuffmanDecodeTable α */
+	public static final int DEFAULT_MAX_CODE_LENGTH = 15;
+	/** ͳʱÿεĴС */
+	private static final int SEGMENT_SIZE = 1 << 20;
+
+	public static void main(String[] args) {
+		byte[] contentBytes = "i like like like java do you like a java".getBytes();
+		long[] counts = count(contentBytes, 0, contentBytes.length);
+		int[] codeLens = codeLengths(counts, DEFAULT_MAX_CODE_LENGTH);
+		long[] codeBits = new long[256];
+		HuffmanCode.canonicalCodes(codeLens, codeBits);
+		for (int symbol = 0; symbol < 256; symbol++) {
+			if (codeLens[symbol] > 0) {
+				String code = Long.toBinaryString(codeBits[symbol] | (1L << codeLens[symbol])).substring(1);
+				System.out.println((char) symbol + " =" + counts[symbol] + " =" + code);
+			}
+		}
+	}
+
+	/**
+	 * ͳ bytes[off, off+len) ÿֽڳֵĴ, ݴʱͳ
+	 * @return ÿֽ(byte & 0xff)ֵĴ
+	 */
+	public static long[] count(byte[] bytes, int off, int len) {
+		if (len >= PARALLEL_THRESHOLD) {
+			return ForkJoinPool.commonPool().invoke(new CountTask(ByteBuffer.wrap(bytes), off, off + len));
+		}
+		long[] counts = new long[256];
+		count(bytes, off, len, counts);
+		return counts;
+	}
+
+	/**
+	 * ߳ͳ, ۼӵ counts
+	 */
+	public static void count(byte[] bytes, int off, int len, long[] counts) {
+		int[] c0 = new int[256];
+		int[] c1 = new int[256];
+		int[] c2 = new int[256];
+		int[] c3 = new int[256];
+		int i = off;
+		int end = off + len;
+		//int ൽ 2^31-1, ͳۼӵ long
+		while (i < end) {
+			int segmentEnd = (int) Math.min(end, (long) i + (1 << 30));
+			for (; i + 3 < segmentEnd; i += 4) {
+				c0[bytes[i] & 0xff]++;
+				c1[bytes[i + 1] & 0xff]++;
+				c2[bytes[i + 2] & 0xff]++;
+				c3[bytes[i + 3] & 0xff]++;
+			}
+			for (; i < segmentEnd; i++) {
+				c0[bytes[i] & 0xff]++;
+			}
+			for (int symbol = 0; symbol < 256; symbol++) {
+				counts[symbol] += (long) c0[symbol] + c1[symbol] + c2[symbol] + c3[symbol];
+			}
+			Arrays.fill(c0, 0);
+			Arrays.fill(c1, 0);
+			Arrays.fill(c2, 0);
+			Arrays.fill(c3, 0);
+		}
+	}
+
+	/**
+	 * ͳ buffer  position ~ limit ֽ, ۼӵ counts, buffer ڴӳļ
+	 * ݴʱͳ, ֻð± get, ı buffer  position
+	 */
+	public static void count(ByteBuffer buffer, long[] counts) {
+		long[] result;
+		if (buffer.remaining() >= PARALLEL_THRESHOLD) {
+			result = ForkJoinPool.commonPool().invoke(new CountTask(buffer, buffer.position(), buffer.limit()));
+		} else {
+			result = countSequential(buffer, buffer.position(), buffer.limit());
+		}
+		for (int symbol = 0; symbol < 256; symbol++) {
+			counts[symbol] += result[symbol];
+		}
+	}
+
+	private static long[] countSequential(ByteBuffer buffer, int from, int to) {
+		if (buffer.hasArray()) {
+			long[] counts = new long[256];
+			count(buffer.array(), buffer.arrayOffset() + from, to - from, counts);
+			return counts;
+		}
+		int[] c0 = new int[256];
+		int[] c1 = new int[256];
+		int i = from;
+		for (; i + 1 < to; i += 2) {
+			c0[buffer.get(i) & 0xff]++;
+			c1[buffer.get(i + 1) & 0xff]++;
+		}
+		if (i < to) {
+			c0[buffer.get(i) & 0xff]++;
+		}
+		long[] counts = new long[256];
+		for (int symbol = 0; symbol < 256; symbol++) {
+			counts[symbol] = (long) c0[symbol] + c1[symbol];
+		}
+		return counts;
+	}
+
+	/**
+	 * ͳ: һֱ԰, ֱ SEGMENT_SIZE, ÿεͳٺϲ
+	 */
+	private static class CountTask extends RecursiveTask<long[]> {
+		private static final long serialVersionUID = 1L;
+
+		private final ByteBuffer buffer;
+		private final int from;
+		private final int to;
+
+		CountTask(ByteBuffer buffer, int from, int to) {
+			this.buffer = buffer;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected long[] compute() {
+			if (to - from <= SEGMENT_SIZE) {
+				return countSequential(buffer, from, to);
+			}
+			int mid = (from + to) >>> 1;
+			CountTask left = new CountTask(buffer, from, mid);
+			left.fork();
+			long[] right = new CountTask(buffer, mid, to).compute();
+			long[] counts = left.join();
+			for (int symbol = 0; symbol < 256; symbol++) {
+				counts[symbol] += right[symbol];
+			}
+			return counts;
+		}
+	}
+
+	/**
+	 * ݳִÿֽڵĺշ볤
+	 * @param counts ÿֽ(byte & 0xff)ֵĴ
+	 * @return ÿֽڵı볤, ûгֵΪ 0, ֻһֽʱĳΪ 1
+	 */
+	public static int[] codeLengths(long[] counts) {
+		int[] codeLens = new int[256];
+		//1. ҶӰ (Ȩֵ, ֽ) С, ȨֵŸλ, ֽڷŵ8λ
+		long[] leaves = new long[256];
+		int n = 0;
+		for (int symbol = 0; symbol < 256; symbol++) {
+			if (counts[symbol] > 0) {
+				leaves[n++] = (counts[symbol] << 8) | symbol;
+			}
+		}
+		if (n == 0) {
+			return codeLens;
+		}
+		if (n == 1) {
+			codeLens[(int) (leaves[0] & 0xff)] = 1;
+			return codeLens;
+		}
+		Arrays.sort(leaves, 0, n);
+
+		//2. кϲ: 0 ~ n-1 Ҷ, n ~ 2n-2 ɵĽ
+		int total = 2 * n - 1;
+		long[] weights = new long[total];
+		int[] parents = new int[total];
+		for (int i = 0; i < n; i++) {
+			weights[i] = leaves[i] >>> 8;
+		}
+		int leaf = 0; // ҶӶеĶͷ
+		int node = n; // еĶͷ
+		for (int next = n; next < total; next++) {
+			int a;
+			if (leaf < n && (node >= next || weights[leaf] <= weights[node])) {
+				a = leaf++;
+			} else {
+				a = node++;
+			}
+			int b;
+			if (leaf < n && (node >= next || weights[leaf] <= weights[node])) {
+				b = leaf++;
+			} else {
+				b = node++;
+			}
+			weights[next] = weights[a] + weights[b];
+			parents[a] = next;
+			parents[b] = next;
+		}
+
+		//3. ɵĽ, ӽ, Եһȼ
+		int[] depths = new int[total];
+		for (int i = total - 2; i >= 0; i--) {
+			depths[i] = depths[parents[i]] + 1;
+		}
+		for (int i = 0; i < n; i++) {
+			codeLens[(int) (leaves[i] & 0xff)] = depths[i];
+		}
+		return codeLens;
+	}
+
+	/**
+	 * ݳִÿֽڵĺշ볤, б붼 maxLength λ
+	 * ûгʱ codeLengths(counts) һ, ʱ package-merge 㷨󳤶޵ű
+	 * package-merge ˼·
+	 * 1. ÿҶӿ"Ӳ", ֵ 2^-, Ȩֵǳִ
+	 * 2. һ㿪ʼ, ѵǰбһ, ҶһȨֵ鲢, Ϊһб, ظ maxLength-1 
+	 * 3. бȡȨֵС 2n-2 , ĳҶЩ()˼, ı볤ȾǼ
+	 * @param counts ÿֽ(byte & 0xff)ֵĴ
+	 * @param maxLength 󳤶
+	 * @return ÿֽڵı볤
+	 */
+	public static int[] codeLengths(long[] counts, int maxLength) {
+		int[] codeLens = codeLengths(counts);
+		int n = 0;
+		int longest = 0;
+		for (int len : codeLens) {
+			if (len > 0) {
+				n++;
+				longest = Math.max(longest, len);
+			}
+		}
+		if (longest <= maxLength) {
+			return codeLens;
+		}
+		if (maxLength < 9 && (1 << maxLength) < n) {
+			throw new IllegalArgumentException(n + " ֽڷŲ " + maxLength + " λı");
+		}
+
+		//1. ҶӰȨֵ,  0 ~ n-1 Ҷ
+		long[] leaves = new long[n];
+		n = 0;
+		for (int symbol = 0; symbol < 256; symbol++) {
+			if (counts[symbol] > 0) {
+				leaves[n++] = (counts[symbol] << 8) | symbol;
+			}
+		}
+		Arrays.sort(leaves);
+		int capacity = n + maxLength * n;
+		long[] weights = new long[capacity];
+		int[] lefts = new int[capacity]; // , ҶΪ -1
+		int[] rights = new int[capacity];
+		for (int i = 0; i < n; i++) {
+			weights[i] = leaves[i] >>> 8;
+			lefts[i] = -1;
+		}
+		int size = n;
+
+		//2. 鲢 maxLength-1 
+		int[] list = new int[2 * n];
+		int listSize = n;
+		for (int i = 0; i < n; i++) {
+			list[i] = i;
+		}
+		int[] merged = new int[2 * n];
+		for (int level = 1; level < maxLength; level++) {
+			int packageStart = size;
+			for (int i = 0; i + 1 < listSize; i += 2) {
+				weights[size] = weights[list[i]] + weights[list[i + 1]];
+				lefts[size] = list[i];
+				rights[size] = list[i + 1];
+				size++;
+			}
+			//ҶӺͰǰȨֵ, 鲢µб
+			int leaf = 0;
+			int pack = packageStart;
+			int m = 0;
+			while (leaf < n || pack < size) {
+				if (pack >= size || (leaf < n && weights[leaf] <= weights[pack])) {
+					merged[m++] = leaf++;
+				} else {
+					merged[m++] = pack++;
+				}
+			}
+			int[] temp = list;
+			list = merged;
+			merged = temp;
+			listSize = m;
+		}
+
+		//3. ȡǰ 2n-2 , ͳÿҶӳֵĴ
+		int[] leafLens = new int[n];
+		int[] stack = new int[maxLength + 1];
+		for (int i = 0; i < 2 * n - 2; i++) {
+			int top = 0;
+			stack[top++] = list[i];
+			while (top > 0) {
+				int item = stack[--top];
+				if (lefts[item] < 0) {
+					leafLens[item]++;
+				} else {
+					stack[top++] = lefts[item];
+					stack[top++] = rights[item];
+				}
+			}
+		}
+		Arrays.fill(codeLens, 0);
+		for (int i = 0; i < n; i++) {
+			codeLens[(int) (leaves[i] & 0xff)] = leafLens[i];
+		}
+		return codeLens;
+	}
+}
@@ -67,7 +67,7 @@ public class BinarySearch {
 
 	public static List<Integer> binarySearch2(int[] arr, int left, int right, int findVal) {
 
-		System.out.println("hello~");
+		//System.out.println("hello~");
 		//  left > right ʱ˵ݹ飬ûҵ
 		if (left > right) {
 			return new ArrayList<Integer>();
@@ -0,0 +1,254 @@
+package com.atguigu.search;
+
+import java.util.Arrays;
+
+/**
+ *  Eytzinger(, BFS) ˳ŷŵ, ֻúܶĴұ
+ * ˵
+ * 1. ֲͨÿһм, ܴʱǰʮÿһһλδ, һȥҪһ
+ * 2. Eytzinger ŷ: 鿴һȫ, 浽 tree[1..n] , k ӽ 2k  2k+1
+ *    (1) ǰ㶼ǰ, һֱڻ
+ *    (2) k  4  16  tree[16k .. 16k+15], һ, һ(Java Ʋʼַ, )
+ * 3. : k = 2k + (tree[k] < x ? 1 : 0) һֱߵҶ, ѭֻ n й, ȽϽд ?:, JIT , ûз֧ɲ´;
+ *    Ժ, k Ķ󼸸 1 ߵǼ, ȥǺһ 0, ǵһ >= x Ľ
+ * 4. Ԥȡ: Java ûԤȡָ, ÿһ˳һ tree[16k](4 ԺҪõǸ), ֵҪҵ k ޹,
+ *    CPU õ, Լں̨ѻȡ; ʵ 1000 ʱȲԤȡһ
+ *    ֵҪ"õ", JIT ŲЩȥ: ӵֲ sink ,  sink & tree[0] ӵ,
+ *    tree[0] һֱ 0, ,  JIT ֪; дκֶ, ܶ߳ͬʱҲͬһ
+ * 5. ±: ԭ±ֱ( inorderRank), ֻ, ڴ
+ *
+ * ±궼ԭ±; ҿ
+ */
+public class EytzingerIndex {
+
+	/** ô, ٶʱ 2k + 1 ᳬ int */
+	public static final int MAX_SIZE = (1 << 30) - 1;
+
+	/** tree[1..n]  Eytzinger ˳, tree[0] һֱ 0(ʱ"õ"Ԥȡֵ) */
+	private final int[] tree;
+	private final int n;
+	/** ȫһ( 0) */
+	private final int lastDepth;
+
+	/**
+	 * @param sorted Сź, ᱻ޸
+	 */
+	public EytzingerIndex(int[] sorted) {
+		if (sorted.length > MAX_SIZE) {
+			throw new IllegalArgumentException(" " + MAX_SIZE + " ,  " + sorted.length);
+		}
+		for (int i = 1; i < sorted.length; i++) {
+			if (sorted[i - 1] > sorted[i]) {
+				throw new IllegalArgumentException("ûź, ± " + i);
+			}
+		}
+		this.n = sorted.length;
+		this.tree = new int[n + 1];
+		this.lastDepth = n == 0 ? 0 : 31 - Integer.numberOfLeadingZeros(n);
+		//(С)һ, ȥ, õݹ:
+		//1. Ӹһֱߵ, С
+		//2. һ: ӽһߵ; ûо, ֱǴ
+		int k = 1;
+		while (2L * k <= n) {
+			k *= 2;
+		}
+		for (int i = 0; i < n; i++) {
+			tree[k] = sorted[i];
+			if (2L * k + 1 <= n) {
+				k = 2 * k + 1;
+				while (2L * k <= n) {
+					k *= 2;
+				}
+			} else {
+				k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		int[] arr = { 1, 8, 10, 89, 1000, 1000, 1234 };
+		EytzingerIndex index = new EytzingerIndex(arr);
+		System.out.println("Eytzinger ˳=" + Arrays.toString(Arrays.copyOfRange(index.tree, 1, index.tree.length)));
+		System.out.println("1000 =" + Arrays.toString(index.equalRange(1000)));
+		System.out.println("һ >= 11 ±=" + index.lowerBound(11) + ", һ > 1234 ±=" + index.upperBound(1234));
+
+		// , ȻܶʱͶֲҶԱ; Ĭ 1000 , ڲĳ(1 ڸǵõ -Xmx)
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+		int[] sorted = new int[n];
+		for (int i = 0; i < n; i++) {
+			sorted[i] = (int) (Math.random() * Integer.MAX_VALUE);
+		}
+		Arrays.sort(sorted);
+		index = new EytzingerIndex(sorted);
+		int lookups = 5000000;
+		int[] keys = new int[lookups];
+		for (int i = 0; i < lookups; i++) {
+			keys[i] = (int) (Math.random() * Integer.MAX_VALUE);
+		}
+		for (int round = 0; round < 2; round++) {
+			//  0 
+			long sum1 = 0;
+			long start = System.nanoTime();
+			for (int key : keys) {
+				sum1 += BinarySearch.binarySearch(sorted, 0, n - 1, key);
+			}
+			long recursiveTime = System.nanoTime() - start;
+			long sum2 = 0;
+			start = System.nanoTime();
+			for (int key : keys) {
+				sum2 += Arrays.binarySearch(sorted, key);
+			}
+			long arraysTime = System.nanoTime() - start;
+			long sum3 = 0;
+			start = System.nanoTime();
+			for (int key : keys) {
+				sum3 += index.lowerBound(key);
+			}
+			long eytzingerTime = System.nanoTime() - start;
+			if (round == 1) {
+				System.out.printf("n=%d ÿβ: BinarySearch.binarySearch %.1fns, Arrays.binarySearch %.1fns, lowerBound %.1fns (%d %d %d)%n",
+						n, (double) recursiveTime / lookups, (double) arraysTime / lookups,
+						(double) eytzingerTime / lookups, sum1, sum2, sum3);
+			}
+		}
+	}
+
+	/**
+	 * @return һ
+	 */
+	public int size() {
+		return n;
+	}
+
+	/**
+	 * һ >= x ±,  x Сʱ size()
+	 */
+	public int lowerBound(int x) {
+		int j = lowerBoundNode(x);
+		return j == 0 ? n : inorderRank(j);
+	}
+
+	/**
+	 * һ >= x Ľ,  x Сʱ 0
+	 */
+	private int lowerBoundNode(int x) {
+		int[] tree = this.tree;
+		int n = this.n;
+		int sink = 0;
+		int prefetchLimit = n >>> 4;
+		int k = 1;
+		while (k <= n) {
+			//Ԥȡ 4 ԺĻ, ıȽϻ;  4 Ѿ, Ԥȡ
+			if (k <= prefetchLimit) {
+				sink += tree[16 * k];
+			}
+			k = 2 * k + (tree[k] < x ? 1 : 0);
+		}
+		//sink & tree[0]  0, ֻԤȡĶô
+		return parentOfLastLeftTurn(k) + (sink & tree[0]);
+	}
+
+	/**
+	 * һ > x ±,  x ʱ size()
+	 */
+	public int upperBound(int x) {
+		int[] tree = this.tree;
+		int n = this.n;
+		int sink = 0;
+		int prefetchLimit = n >>> 4;
+		int k = 1;
+		while (k <= n) {
+			if (k <= prefetchLimit) {
+				sink += tree[16 * k];
+			}
+			k = 2 * k + (tree[k] <= x ? 1 : 0);
+		}
+		int j = parentOfLastLeftTurn(k) + (sink & tree[0]);
+		return j == 0 ? n : inorderRank(j);
+	}
+
+	/**
+	 *  x ± [from, to), ûʱ from == to( x Ӧòλ)
+	 * @return {from, to}
+	 */
+	public int[] equalRange(int x) {
+		return new int[] { lowerBound(x), upperBound(x) };
+	}
+
+	/**
+	 * û x
+	 */
+	public boolean contains(int x) {
+		int j = lowerBoundNode(x);
+		return j != 0 && tree[j] == x;
+	}
+
+	/**
+	 * м x
+	 */
+	public int count(int x) {
+		return upperBound(x) - lowerBound(x);
+	}
+
+	/**
+	 * ԭ±Ϊ i 
+	 */
+	public int valueAt(int i) {
+		if (i < 0 || i >= n) {
+			throw new ArrayIndexOutOfBoundsException("i=" + i + ", size=" + n);
+		}
+		//Ӹ:  left , i С, ھ, ͼߺ
+		int k = 1;
+		while (true) {
+			int left = subtreeSize(2L * k);
+			if (i < left) {
+				k = 2 * k;
+			} else if (i == left) {
+				return tree[k];
+			} else {
+				i -= left + 1;
+				k = 2 * k + 1;
+			}
+		}
+	}
+
+	/**
+	 *  k һһߵǸ, ҲҪҵĽ
+	 * ȥߵǼ(ĩβ 1)һ(һ 0); һֱߵĻʣ 0, ˵ûĽ
+	 * @param k ѭʱ k(ѾߵҶ)
+	 */
+	private static int parentOfLastLeftTurn(int k) {
+		return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+	}
+
+	/**
+	 *  j (С)ŵڼ,  0 ʼ
+	 */
+	private int inorderRank(int j) {
+		//˼·
+		//1. ȵһҲ(һ lastDepth + 1 ),  d  i (i  0 ʼ)
+		//   ŵ (2i + 1) * 2^(lastDepth - d) - 1
+		//2. , һĵ t ڵ 2t; һʵֻǰ m ,
+		//   ǰ浫ǲڵ max(0, ceil(p / 2) - m) , 
+		//3. , ûѭͷ֧
+		int d = 31 - Integer.numberOfLeadingZeros(j);
+		long p = ((2L * (j - (1L << d)) + 1) << (lastDepth - d)) - 1;
+		long existing = n - ((1L << lastDepth) - 1);
+		return (int) (p - Math.max(0, (p + 1) / 2 - existing));
+	}
+
+	/**
+	 *  m Ϊм
+	 */
+	private int subtreeSize(long m) {
+		//1. m  d , һֱһ֮ǰ, һ 2^h - 1 (h  m һĲ)
+		//2. һ m  [m * 2^h, (m + 1) * 2^h), ֻв n ĲŴ
+		if (m > n) {
+			return 0;
+		}
+		int h = lastDepth - (63 - Long.numberOfLeadingZeros(m));
+		long first = m << h;
+		long lastLevel = Math.max(0, Math.min(n - first + 1, 1L << h));
+		return (int) ((1L << h) - 1 + lastLevel);
+	}
+}
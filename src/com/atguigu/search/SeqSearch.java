@@ -1,7 +1,27 @@
 package com.atguigu.search;
 
+import java.util.Arrays;
+
+/**
+ * Բ
+ * ˵
+ * 1. seqSearch(arr, value) д; seqSearch(arr, from, to, value) ֻǼ, ѭһ:
+ *    JIT Ѿչ, 100  int ʱÿԪ 0.3ns , ڴ, ֹֿҲ첻
+ * 2. countMatches: Ȳ ?:  if , : x = a ^ value, x Ϊ 0 ʱ ~(x | -x) λ 1,
+ *    ѭûз֧, JIT ָܰ(һαȽϺü), ƥĶٲӰٶ
+ * 3. seqSearchAll: ÿ CHUNK һ,  countMatches 㷨һм(ܿ), ûо;
+ *    еĻȱ֤ŵ, پ, ÿ±궼дȥ, Ȳдλ(ûз֧)
+ * 4. ûм Vector API(jdk.incubator.vector)İ汾: Ƿģ, жҪ --add-modules jdk.incubator.vector,
+ *    ֿûй, ûطͳһ, õŽԺֱ javac  src ͱ벻;
+ *     countMatches  JIT Զ, seqSearch Ѿܵڴ, 汾ܶҪ seqSearchAll ±һ;
+ *    Ժ˹,  IntVector.SPECIES_PREFERRED һαһ: compare(EQ).trueCount() ,
+ *    firstTrue() ҵһ, ֧ʱڵѭ
+ */
 public class SeqSearch {
 
+	/** seqSearchAll ÿμԪ */
+	private static final int CHUNK = 256;
+
 	public static void main(String[] args) {
 		int arr[] = { 1, 9, 11, -1, 34, 89 };// û˳
 		int index = seqSearch(arr, -11);
@@ -10,6 +30,64 @@ public class SeqSearch {
 		} else {
 			System.out.println("ҵ±Ϊ=" + index);
 		}
+
+		// 100 ҳ±,  if жϵдԱ; ƥ(1/1000)ƥö(1/2)һ
+		int n = 1000000;
+		int rounds = 200;
+		for (int kinds : new int[] { 1000, 2 }) {
+			int[] data = new int[n];
+			for (int i = 0; i < n; i++) {
+				data[i] = (int) (Math.random() * kinds);
+			}
+			for (int round = 0; round < 2; round++) {
+				//  0 
+				long start = System.nanoTime();
+				int simpleCount = 0;
+				for (int r = 0; r < rounds; r++) {
+					simpleCount = 0;
+					for (int i = 0; i < n; i++) {
+						if (data[i] == 0) {
+							simpleCount++;
+						}
+					}
+				}
+				long simpleCountTime = System.nanoTime() - start;
+				start = System.nanoTime();
+				int count = 0;
+				for (int r = 0; r < rounds; r++) {
+					count = countMatches(data, 0, n, 0);
+				}
+				long countTime = System.nanoTime() - start;
+				start = System.nanoTime();
+				int[] simpleAll = null;
+				for (int r = 0; r < rounds; r++) {
+					simpleAll = new int[16];
+					int size = 0;
+					for (int i = 0; i < n; i++) {
+						if (data[i] == 0) {
+							if (size == simpleAll.length) {
+								simpleAll = Arrays.copyOf(simpleAll, size * 2);
+							}
+							simpleAll[size++] = i;
+						}
+					}
+					simpleAll = Arrays.copyOf(simpleAll, size);
+				}
+				long simpleAllTime = System.nanoTime() - start;
+				start = System.nanoTime();
+				int[] all = null;
+				for (int r = 0; r < rounds; r++) {
+					all = seqSearchAll(data, 0, n, 0);
+				}
+				long allTime = System.nanoTime() - start;
+				if (round == 1) {
+					double elements = (double) rounds * n;
+					System.out.printf("ƥ 1/%d:  %.2f ns/Ԫ, countMatches %.2f ns/Ԫ;  %.2f ns/Ԫ, seqSearchAll %.2f ns/Ԫ, һ=%b%n",
+							kinds, simpleCountTime / elements, countTime / elements, simpleAllTime / elements, allTime / elements,
+							count == simpleCount && Arrays.equals(all, simpleAll));
+				}
+			}
+		}
 	}
 
 	/**
@@ -28,4 +106,79 @@ public class SeqSearch {
 		return -1;
 	}
 
+	/**
+	 *  [from, to) ҵһ value 
+	 * @return ±, ûҵ -1
+	 */
+	public static int seqSearch(int[] arr, int from, int to, int value) {
+		checkRange(arr.length, from, to);
+		for (int i = from; i < to; i++) {
+			if (arr[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * [from, to) м value
+	 */
+	public static int countMatches(int[] arr, int from, int to, int value) {
+		checkRange(arr.length, from, to);
+		return count(arr, from, to, value);
+	}
+
+	private static int count(int[] arr, int from, int to, int value) {
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			int x = arr[i] ^ value;
+			count += ~(x | -x) >>> 31;
+		}
+		return count;
+	}
+
+	/**
+	 * [from, to) е value ±, С
+	 */
+	public static int[] seqSearchAll(int[] arr, int from, int to, int value) {
+		checkRange(arr.length, from, to);
+		int[] result = new int[16];
+		int count = 0;
+		for (int start = from; start < to; start += CHUNK) {
+			int end = Math.min(to, start + CHUNK);
+			int found = count(arr, start, end, value);
+			if (found == 0) {
+				continue;
+			}
+			if (result.length - count < found) {
+				result = Arrays.copyOf(result, Math.max(result.length * 2, count + found));
+			}
+			int last = count + found;
+			if (found <= CHUNK / 8) {
+				//: , ֧¶
+				for (int i = start; count < last; i++) {
+					if (arr[i] == value) {
+						result[count++] = i;
+					}
+				}
+			} else {
+				//: ÿ±궼д result[count], Ȳ count++; ˾ͣ, Բд last 
+				for (int i = start; count < last; i++) {
+					result[count] = i;
+					int x = arr[i] ^ value;
+					count += ~(x | -x) >>> 31;
+				}
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 *  [from, to) ǲ鷶Χ
+	 */
+	private static void checkRange(int length, int from, int to) {
+		if (from < 0 || to > length || from > to) {
+			throw new ArrayIndexOutOfBoundsException("from=" + from + ", to=" + to + ", length=" + length);
+		}
+	}
 }
@@ -0,0 +1,420 @@
+package com.atguigu.sort;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ⲿ: ŲڴĴļ, ļǶ int  long ¼(,  DataOutputStream дһ)
+ * ˼·
+ * 1. (run): ÿζ runSize ¼ڴ,  RadixSort.lsdRadixSort ź, дһʱļ
+ *    parallelism  1 ʱͬʱ, ÿ߳ FileChannel λöԼһ, Ӱ
+ * 2. ·鲢: ÿһ, һСѡжεǰСļ¼дȥ
+ *    ŵǶεı,  long[] , ûװҲ
+ * 3. ̫ʱһֻϲ fanIn , ϲɸĶ, ֱ fanIn , һκϲдĿļ
+ *    ϲһһ˳(ϲҪȴ, ߳ͬʱϲҲ첻˶), һֻһ, ÿ鶼ͬһ,
+ *    ͬʱ򿪵ļ(fanIn + 1)ͻռڴ((fanIn + 1) * bufferSize)ǹ̶
+ *
+ * ڴ: ʱÿ̴߳Լ 3 * runSize * ¼, ϲʱ (fanIn + 1) * bufferSize ֱڴ
+ */
+public class ExternalMergeSort {
+
+	/** Ĭÿ 16M ¼ */
+	public static final int DEFAULT_RUN_SIZE = 1 << 24;
+	/** Ĭÿ 1MB */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+	/** Ĭһϲ 64  */
+	public static final int DEFAULT_FAN_IN = 64;
+
+	private final int runSize; // ÿεļ¼
+	private final int bufferSize; // дļʱÿֽ
+	private final int fanIn; // һϲ
+	private final int parallelism; // ͬʱɼ
+	private final Path tempDir; // ʱļ, null ʾϵͳʱĿ¼
+
+	public static void main(String[] args) throws IOException {
+		// 1000  int, ÿ 100 , һκϲ 4 : 10  -> 3  -> Ŀļ
+		int n = 10000000;
+		File src = File.createTempFile("external", ".src");
+		File dst = File.createTempFile("external", ".dst");
+		try {
+			Random random = new Random();
+			try (FileChannel out = FileChannel.open(src.toPath(), StandardOpenOption.WRITE)) {
+				ByteBuffer buf = ByteBuffer.allocate(1 << 16);
+				for (int i = 0; i < n; i++) {
+					if (!buf.hasRemaining()) {
+						writeFully(out, buf);
+					}
+					buf.putInt(random.nextInt());
+				}
+				writeFully(out, buf);
+			}
+
+			ExternalMergeSort sorter = new ExternalMergeSort(1000000, 1 << 16, 4,
+					Runtime.getRuntime().availableProcessors(), null);
+			long start = System.nanoTime();
+			sorter.sortInts(src.getPath(), dst.getPath());
+			System.out.println("ⲿ " + n + "  int: " + (System.nanoTime() - start) / 1000000 + " ms");
+
+			//
+			try (FileChannel in = FileChannel.open(dst.toPath(), StandardOpenOption.READ)) {
+				ByteBuffer buf = ByteBuffer.allocate(1 << 16);
+				long count = 0;
+				int prev = Integer.MIN_VALUE;
+				boolean sorted = true;
+				while (in.read(buf) > 0 || buf.position() > 0) {
+					buf.flip();
+					while (buf.remaining() >= 4) {
+						int v = buf.getInt();
+						sorted &= prev <= v;
+						prev = v;
+						count++;
+					}
+					buf.compact();
+					if (buf.position() == 0 && in.position() == in.size()) {
+						break;
+					}
+				}
+				System.out.println("¼=" + count + " =" + sorted);
+			}
+		} finally {
+			src.delete();
+			dst.delete();
+		}
+	}
+
+	public ExternalMergeSort() {
+		this(DEFAULT_RUN_SIZE, DEFAULT_BUFFER_SIZE, DEFAULT_FAN_IN, 1, null);
+	}
+
+	/**
+	 * @param runSize ÿεļ¼, ʱöڴ
+	 * @param bufferSize дļʱÿֽ, ȡ 8 ı
+	 * @param fanIn һϲ,  2
+	 * @param parallelism ͬʱɼ, 1 ʾ߳; ϲǵ̵߳
+	 * @param tempDir ʱļ, null ʾϵͳʱĿ¼
+	 */
+	public ExternalMergeSort(int runSize, int bufferSize, int fanIn, int parallelism, File tempDir) {
+		if (runSize <= 0 || runSize > Integer.MAX_VALUE / 8) {
+			throw new IllegalArgumentException("runSize  1 ~ " + Integer.MAX_VALUE / 8 + " ֮: " + runSize);
+		}
+		if (bufferSize < 8) {
+			throw new IllegalArgumentException("bufferSize  8: " + bufferSize);
+		}
+		if (fanIn < 2) {
+			throw new IllegalArgumentException("fanIn  2: " + fanIn);
+		}
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism  1: " + parallelism);
+		}
+		this.runSize = runSize;
+		this.bufferSize = bufferSize & ~7;
+		this.fanIn = fanIn;
+		this.parallelism = parallelism;
+		this.tempDir = tempDir == null ? null : tempDir.toPath();
+	}
+
+	/**
+	 *  int ¼ļ
+	 * @param srcFile Ҫļ
+	 * @param dstFile źĽд
+	 */
+	public void sortInts(String srcFile, String dstFile) throws IOException {
+		sort(srcFile, dstFile, 4);
+	}
+
+	/**
+	 *  long ¼ļ
+	 */
+	public void sortLongs(String srcFile, String dstFile) throws IOException {
+		sort(srcFile, dstFile, 8);
+	}
+
+	/**
+	 * @param width ¼ֽ, 4  8
+	 */
+	private void sort(String srcFile, String dstFile, int width) throws IOException {
+		Path dst = Paths.get(dstFile);
+		List<Path> temps = new ArrayList<>(); // еʱļ, һɾ
+		try {
+			List<Path> runs;
+			try (FileChannel in = FileChannel.open(Paths.get(srcFile), StandardOpenOption.READ)) {
+				long size = in.size();
+				if (size % width != 0) {
+					throw new IOException("ļ " + size + " Ǽ¼ " + width + " ");
+				}
+				long records = size / width;
+				if (records <= runSize) {
+					//һξͷŵ, ֱźдĿļ
+					writeRun(in, 0, (int) records, width, dst);
+					return;
+				}
+				runs = createRuns(in, records, width, temps);
+			}
+			//ϲõ fanIn + 1 ֻһ, ÿκϲ
+			ByteBuffer[] buffers = new ByteBuffer[fanIn + 1];
+			for (int i = 0; i < buffers.length; i++) {
+				buffers[i] = ByteBuffer.allocateDirect(bufferSize);
+			}
+			while (runs.size() > fanIn) {
+				runs = mergePass(runs, width, temps, buffers);
+			}
+			merge(runs, dst, width, buffers);
+		} finally {
+			for (Path temp : temps) {
+				Files.deleteIfExists(temp);
+			}
+		}
+	}
+
+	/**
+	 * 1. 
+	 * @return εʱļ
+	 */
+	private List<Path> createRuns(FileChannel in, long records, int width, List<Path> temps) throws IOException {
+		int runCount = (int) ((records + runSize - 1) / runSize);
+		List<Path> runs = new ArrayList<>(runCount);
+		List<Callable<Void>> tasks = new ArrayList<>(runCount);
+		for (int i = 0; i < runCount; i++) {
+			final Path run = createTempFile(temps);
+			final long first = (long) i * runSize;
+			final int count = (int) Math.min(runSize, records - first);
+			runs.add(run);
+			tasks.add(() -> {
+				writeRun(in, first, count, width, run);
+				return null;
+			});
+		}
+		runAll(tasks);
+		return runs;
+	}
+
+	/**
+	 *  [first, first + count) Щ¼, ڴź, д out
+	 */
+	private void writeRun(FileChannel in, long first, int count, int width, Path out) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(count * width);
+		//λö, ߳ͬʱͬһ FileChannel Ҳû
+		long position = first * width;
+		while (buf.position() < buf.capacity()) {
+			buf.limit(Math.min(buf.capacity(), buf.position() + bufferSize));
+			int n = in.read(buf, position);
+			if (n < 0) {
+				throw new IOException("ļض");
+			}
+			position += n;
+		}
+		buf.clear();
+		if (width == 4) {
+			int[] a = new int[count];
+			buf.asIntBuffer().get(a);
+			RadixSort.lsdRadixSort(a, 0, count, new int[count]);
+			buf.asIntBuffer().put(a);
+		} else {
+			long[] a = new long[count];
+			buf.asLongBuffer().get(a);
+			RadixSort.lsdRadixSort(a, 0, count, new long[count]);
+			buf.asLongBuffer().put(a);
+		}
+		try (FileChannel channel = FileChannel.open(out, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			//ÿֻд bufferSize ֽ,  JDK Ϊѻһֱͬӻ
+			while (buf.position() < buf.capacity()) {
+				buf.limit(Math.min(buf.capacity(), buf.position() + bufferSize));
+				channel.write(buf);
+			}
+		}
+	}
+
+	/**
+	 * 3. ÿ fanIn κϲһ, һһ˳ϲ
+	 * @return ϲĶ
+	 */
+	private List<Path> mergePass(List<Path> runs, int width, List<Path> temps, ByteBuffer[] buffers) throws IOException {
+		List<Path> merged = new ArrayList<>();
+		for (int i = 0; i < runs.size(); i += fanIn) {
+			List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+			Path out = createTempFile(temps);
+			merged.add(out);
+			merge(group, out, width, buffers);
+			for (Path run : group) {
+				Files.delete(run); // ϲɾ, ͬʱ
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * 2. ·鲢:  runs ϲд out
+	 * @param buffers  runs.size() + 1 , ǰ runs.size() ÿζ, һ
+	 */
+	private void merge(List<Path> runs, Path out, int width, ByteBuffer[] buffers) throws IOException {
+		int k = runs.size();
+		FileChannel[] channels = new FileChannel[k];
+		long[] keys = new long[k]; // ÿεǰļ¼
+		int[] heap = new int[k]; // С, ŵǶεı
+		int size = 0;
+		try (FileChannel channel = FileChannel.open(out, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			for (int r = 0; r < k; r++) {
+				channels[r] = FileChannel.open(runs.get(r), StandardOpenOption.READ);
+				buffers[r].clear();
+				buffers[r].flip();
+				if (fill(channels[r], buffers[r], width)) {
+					keys[r] = width == 4 ? buffers[r].getInt() : buffers[r].getLong();
+					heap[size++] = r;
+				}
+			}
+			for (int i = size / 2 - 1; i >= 0; i--) {
+				siftDown(heap, keys, i, size);
+			}
+			ByteBuffer outBuf = buffers[buffers.length - 1];
+			outBuf.clear();
+			while (size > 0) {
+				//ѶжСļ¼
+				int r = heap[0];
+				if (outBuf.remaining() < width) {
+					writeFully(channel, outBuf);
+				}
+				if (width == 4) {
+					outBuf.putInt((int) keys[r]);
+				} else {
+					outBuf.putLong(keys[r]);
+				}
+				//ζһ, ˾ʹӶȥ
+				if (fill(channels[r], buffers[r], width)) {
+					keys[r] = width == 4 ? buffers[r].getInt() : buffers[r].getLong();
+				} else {
+					heap[0] = heap[--size];
+				}
+				siftDown(heap, keys, 0, size);
+			}
+			writeFully(channel, outBuf);
+		} finally {
+			for (FileChannel c : channels) {
+				if (c != null) {
+					c.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * ֤һļ¼, Ƕģʽ
+	 * @return ζ˷ false
+	 */
+	private static boolean fill(FileChannel channel, ByteBuffer buf, int width) throws IOException {
+		if (buf.remaining() >= width) {
+			return true;
+		}
+		buf.compact();
+		while (buf.position() < width) {
+			if (channel.read(buf) < 0) {
+				break;
+			}
+		}
+		buf.flip();
+		return buf.remaining() >= width;
+	}
+
+	/**
+	 * Сѵĵ, Ƚϵ keys[heap[i]]
+	 */
+	private static void siftDown(int[] heap, long[] keys, int i, int size) {
+		int r = heap[i];
+		long key = keys[r];
+		for (int child = 2 * i + 1; child < size; child = 2 * i + 1) {
+			if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+				child++;
+			}
+			if (keys[heap[child]] >= key) {
+				break;
+			}
+			heap[i] = heap[child];
+			i = child;
+		}
+		heap[i] = r;
+	}
+
+	/**
+	 * дģʽĻȫд, Ȼ
+	 */
+	private static void writeFully(FileChannel channel, ByteBuffer buf) throws IOException {
+		buf.flip();
+		while (buf.hasRemaining()) {
+			channel.write(buf);
+		}
+		buf.clear();
+	}
+
+	private Path createTempFile(List<Path> temps) throws IOException {
+		Path temp = tempDir == null ? Files.createTempFile("run", ".tmp") : Files.createTempFile(tempDir, "run", ".tmp");
+		temps.add(temp);
+		return temp;
+	}
+
+	/**
+	 * ִ, parallelism  1 ʱ parallelism ߳ͬʱִ
+	 */
+	private void runAll(List<Callable<Void>> tasks) throws IOException {
+		if (parallelism == 1 || tasks.size() == 1) {
+			for (Callable<Void> task : tasks) {
+				call(task);
+			}
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()));
+		try {
+			List<Future<Void>> futures = new ArrayList<>(tasks.size());
+			for (Callable<Void> task : tasks) {
+				futures.add(executor.submit(task));
+			}
+			for (Future<Void> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					throw asIOException(e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("ⲿж", e);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void call(Callable<Void> task) throws IOException {
+		try {
+			task.call();
+		} catch (Exception e) {
+			throw asIOException(e);
+		}
+	}
+
+	private static IOException asIOException(Throwable e) {
+		if (e instanceof IOException) {
+			return (IOException) e;
+		}
+		if (e instanceof RuntimeException) {
+			throw (RuntimeException) e;
+		}
+		if (e instanceof Error) {
+			throw (Error) e;
+		}
+		return new IOException(e);
+	}
+}
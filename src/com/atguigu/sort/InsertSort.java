@@ -1,11 +1,69 @@
 package com.atguigu.sort;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 
+/**
+ * 
+ * ˵
+ * 1. insertSort д, while ѭ"ҪҪǰ"ȡ, ʱ֧һ´
+ * 2. С(ֵС)õ:
+ *    (1) networkSort: , n <= 16. ȽϽ˳ǹ̶, ޹, ÿһαȽϽд Math.min / Math.max,
+ *        JIT (cmov), ûз֧ɲ´. õ Batcher ż鲢:
+ *         16 һ, n ʱȥ漰± >= n ıȽ(൱ں油, ЩȽύ)
+ *    (2) branchlessInsertionSort: λòһ߱һҳ, ǰǰźõĲȫһ,
+ *        м(ȽϽֱӼ, ֧),  System.arraycopy һŲ
+ *    (3) sortSmall:  16 , ٶͨĲ; IntroSort  RadixSort(int) ֵС
+ * 3. ʵ(ܶС): Ȳ 2~3 ;
+ *    branchlessInsertionSort ͨһЩ, ΪÿһԪֻͣʱ´һη֧,
+ *    ֧дȴҪһ,  sortSmall  16 ʱͨĲ;
+ *    MergetSort  bottomUpMergeSort Թĳÿ 16 һ, һֹ鲢, ܵĸ, ûи
+ * 4. ѡ Vector API ˫(bitonic)û: jdk.incubator.vector Ƿģ, javac  java Ҫ
+ *    --add-modules jdk.incubator.vector , ֿûйô, ӽֱӱ src ʧ;
+ *    16  int һ, ˫ÿһһ rearrange(λ) + һ min/max, ڵҲһ
+ *    ȽϽ, ԺҪʱŻ
+ */
 public class InsertSort {
 
+	/**  */
+	public static final int NETWORK_MAX_SIZE = 16;
+	/**
+	 * NETWORKS[n]  n Ԫص, ÿһȽ (i, j), i < j, ȽϽ arr[i] <= arr[j]
+	 */
+	private static final int[][] NETWORKS = new int[NETWORK_MAX_SIZE + 1][];
+
+	static {
+		//Batcher ż鲢(16 Ԫ 63 Ƚ), ŵ(60 ) 3 , ǿֱ
+		List<int[]> comparators = new ArrayList<>();
+		int n = NETWORK_MAX_SIZE;
+		for (int p = 1; p < n; p <<= 1) {
+			for (int k = p; k >= 1; k >>= 1) {
+				for (int j = k % p; j + k < n; j += 2 * k) {
+					for (int i = 0; i < k && i + j + k < n; i++) {
+						//ֻȽͬһ 2p СĿԪ
+						if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+							comparators.add(new int[] { i + j, i + j + k });
+						}
+					}
+				}
+			}
+		}
+		for (int size = 0; size <= NETWORK_MAX_SIZE; size++) {
+			int count = 0;
+			int[] network = new int[comparators.size() * 2];
+			for (int[] c : comparators) {
+				if (c[1] < size) {
+					network[count++] = c[0];
+					network[count++] = c[1];
+				}
+			}
+			NETWORKS[size] = Arrays.copyOf(network, count);
+		}
+	}
+
 	public static void main(String[] args) {
 		//int[] arr = {101, 34, 119, 1, -1, 89}; 
 		// Ҫ80000
@@ -27,10 +85,27 @@ public class InsertSort {
 		System.out.println("ǰʱ=" + date2Str);
 		
 		//System.out.println(Arrays.toString(arr));
-		
-		
-		
-		
+
+		// С: 400 , ÿ 16 һηֱ, ԭĲԱ
+		int[] data = new int[1 << 22];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (int) (Math.random() * Integer.MAX_VALUE);
+		}
+		String[] names = { "", "", "֧Ĳ" };
+		for (int k = 0; k < names.length; k++) {
+			int[] copy = data.clone();
+			long start = System.nanoTime();
+			for (int from = 0; from < copy.length; from += 16) {
+				if (k == 0) {
+					IntroSort.insertionSort(copy, from, from + 16);
+				} else if (k == 1) {
+					networkSort(copy, from, from + 16);
+				} else {
+					branchlessInsertionSort(copy, from, from + 16);
+				}
+			}
+			System.out.println(names[k] + " ʱ=" + (System.nanoTime() - start) / 1000000 + "ms");
+		}
 	}
 	
 	//
@@ -121,4 +196,58 @@ public class InsertSort {
 		
 	}
 
+	/**
+	 * С:  NETWORK_MAX_SIZE , ٶͨĲ(IntroSort.insertionSort)
+	 * @param arr 
+	 * @param from ʼ±()
+	 * @param to ±()
+	 */
+	public static void sortSmall(int[] arr, int from, int to) {
+		if (to - from <= NETWORK_MAX_SIZE) {
+			networkSort(arr, from, to);
+		} else {
+			IntroSort.insertionSort(arr, from, to);
+		}
+	}
+
+	/**
+	 *  [from, to),  NETWORK_MAX_SIZE 
+	 */
+	public static void networkSort(int[] arr, int from, int to) {
+		int n = to - from;
+		if (n > NETWORK_MAX_SIZE) {
+			throw new IllegalArgumentException(" " + NETWORK_MAX_SIZE + " ,  " + n);
+		}
+		int[] network = NETWORKS[n];
+		for (int p = 0; p < network.length; p += 2) {
+			int i = from + network[p];
+			int j = from + network[p + 1];
+			int a = arr[i];
+			int b = arr[j];
+			//ȽϽ: Сķ i, ķ j, ҪҪдȥ, ûз֧
+			arr[i] = Math.min(a, b);
+			arr[j] = Math.max(a, b);
+		}
+	}
+
+	/**
+	 * ֧Ĳ [from, to)
+	 */
+	public static void branchlessInsertionSort(int[] arr, int from, int to) {
+		//˼·
+		//1. [from, i) Ѿź, һ arr[i] м, ȽϽ 0/1 ֱӼ, ζ, м䲻ȥ
+		//2. Ǽ,  System.arraycopy һŲһλ, ٰ arr[i] ŵճλ
+		//3. һЩ(ƽһ), ÿһαȽ϶´֧
+		for (int i = from + 1; i < to; i++) {
+			int insertVal = arr[i];
+			int greater = 0;
+			for (int j = from; j < i; j++) {
+				greater += arr[j] > insertVal ? 1 : 0;
+			}
+			if (greater > 0) {
+				System.arraycopy(arr, i - greater, arr, i - greater + 1, greater);
+				arr[i - greater] = insertVal;
+			}
+		}
+	}
 }
@@ -0,0 +1,486 @@
+package com.atguigu.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ʡ(introsort), QuickSort.quickSort ʵ
+ * ˼·
+ * 1. ǿ, ֵٹ̶ȡмԪ: Сʱȡ ֵ(median-of-three),
+ *    ʱȡ ֵ(ninther, ֵȡֵ), "ܷ"ҲֵܷñȽϾ
+ * 2. С INSERTION_THRESHOLD ʱò, Сϲȼݹ
+ *    (int 汾 InsertSort.sortSmall:  16 ʱ, ûз֧ɲ´)
+ * 3. ÿһȼ 1, (2*log2(n) )˵ÿ˻, ʣµö, Ҳ O(nlogn)
+ * 4. ֻԽСһߵݹ, ϴһѭ, ݹȲ log2(n), ջ
+ * 5. :  PARALLEL_THRESHOLD ʱ, һ߽ ForkJoinPool, ͬʱ
+ *
+ * 䶼ҿ [from, to); long[]   + Comparator İ汾˼·ȫһ
+ */
+public class IntroSort {
+
+	/** Сò */
+	public static final int INSERTION_THRESHOLD = 24;
+	/** þֵѡ */
+	public static final int NINTHER_THRESHOLD = 128;
+	/** ȲŲ, С񲻻 */
+	public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	public static void main(String[] args) {
+		int[] arr = { -9, 78, 0, 23, -567, 70, -1, 900, 4561 };
+		sort(arr);
+		System.out.println("arr=" + Arrays.toString(arr));
+
+		//ȫȵԭĿҪôҪôջ, ﶼû
+		int n = 10000000;
+		int[][] cases = new int[4][n];
+		for (int i = 0; i < n; i++) {
+			cases[0][i] = (int) (Math.random() * n);
+			cases[1][i] = i;
+			cases[2][i] = n - i;
+			cases[3][i] = 7;
+		}
+		String[] names = { "", "", "", "ȫ" };
+		for (int c = 0; c < cases.length; c++) {
+			int[] a = cases[c].clone();
+			long start = System.nanoTime();
+			sort(a);
+			long sequential = System.nanoTime() - start;
+			a = cases[c].clone();
+			start = System.nanoTime();
+			parallelSort(a);
+			long parallel = System.nanoTime() - start;
+			System.out.printf("%s: ߳ %d ms,  %d ms, =%b%n", names[c], sequential / 1000000,
+					parallel / 1000000, isSorted(a, 0, a.length));
+		}
+	}
+
+	/**
+	 * ߳
+	 */
+	public static void sort(int[] arr) {
+		sort(arr, 0, arr.length);
+	}
+
+	/**
+	 * ߳ [from, to)
+	 */
+	public static void sort(int[] arr, int from, int to) {
+		checkRange(arr.length, from, to);
+		introSort(arr, from, to, depthLimit(to - from));
+	}
+
+	/**
+	 * ù ForkJoinPool 
+	 */
+	public static void parallelSort(int[] arr) {
+		parallelSort(arr, 0, arr.length, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 *  [from, to), 䲻 pool ֻһ߳ʱǵ߳
+	 * @param pool е̳߳
+	 */
+	public static void parallelSort(int[] arr, int from, int to, ForkJoinPool pool) {
+		checkRange(arr.length, from, to);
+		int depth = depthLimit(to - from);
+		if (to - from <= PARALLEL_THRESHOLD || pool.getParallelism() <= 1) {
+			introSort(arr, from, to, depth);
+		} else {
+			pool.invoke(new SortTask(arr, from, to, depth));
+		}
+	}
+
+	static void checkRange(int length, int from, int to) {
+		if (from < 0 || to > length || from > to) {
+			throw new ArrayIndexOutOfBoundsException("from=" + from + ", to=" + to + ", length=" + length);
+		}
+	}
+
+	/**
+	 * ķ: 2 * log2(n)
+	 */
+	static int depthLimit(int n) {
+		return 2 * (32 - Integer.numberOfLeadingZeros(Math.max(n, 1)));
+	}
+
+	static boolean isSorted(int[] arr, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			if (arr[i - 1] > arr[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * ʡ [from, to)
+	 * @param depth ܷĴ, ͸ö
+	 */
+	static void introSort(int[] arr, int from, int to, int depth) {
+		while (to - from > INSERTION_THRESHOLD) {
+			if (depth-- == 0) {
+				heapSort(arr, from, to);
+				return;
+			}
+			int mid = partition(arr, from, to);
+			//ݹСһ, ϴһ߼ѭ
+			if (mid - from < to - mid) {
+				introSort(arr, from, mid, depth);
+				from = mid;
+			} else {
+				introSort(arr, mid, to, depth);
+				to = mid;
+			}
+		}
+		InsertSort.sortSmall(arr, from, to);
+	}
+
+	/**
+	 * Hoare :  [from, mid) еֵ <= ֵ, [mid, to) еֵ >= ֵ, ߶Ϊ
+	 * ֵȵԪ߶ͣ, ԴظֵʱҲֵúܾ
+	 * @return mid
+	 */
+	static int partition(int[] arr, int from, int to) {
+		return partition(arr, from, to, pivot(arr, from, to));
+	}
+
+	/**
+	 * ֵ Hoare , ֵ [from, to) ĳԪ(ߵɨ迿ͣ)
+	 */
+	static int partition(int[] arr, int from, int to, int pivot) {
+		int l = from - 1;
+		int r = to;
+		while (true) {
+			//һ >= pivot 
+			do {
+				l++;
+			} while (arr[l] < pivot);
+			//ұһ <= pivot 
+			do {
+				r--;
+			} while (arr[r] > pivot);
+			if (l >= r) {
+				//l == r ʱ arr[r] ͵ֵ, ı߶, ֤ұ߲Ϊ
+				return r + 1 < to ? r + 1 : r;
+			}
+			int temp = arr[l];
+			arr[l] = arr[r];
+			arr[r] = temp;
+		}
+	}
+
+	/**
+	 * ѡֵ: Сֵ, ֵ
+	 */
+	static int pivot(int[] arr, int from, int to) {
+		int n = to - from;
+		int mid = from + (n >>> 1);
+		if (n <= NINTHER_THRESHOLD) {
+			return median(arr[from], arr[mid], arr[to - 1]);
+		}
+		int step = n >>> 3;
+		int a = median(arr[from], arr[from + step], arr[from + 2 * step]);
+		int b = median(arr[mid - step], arr[mid], arr[mid + step]);
+		int c = median(arr[to - 1 - 2 * step], arr[to - 1 - step], arr[to - 1]);
+		return median(a, b, c);
+	}
+
+	/**
+	 * ֵ
+	 */
+	static int median(int a, int b, int c) {
+		return a < b ? (b < c ? b : (a < c ? c : a)) : (a < c ? a : (b < c ? c : b));
+	}
+
+	/**
+	 *  [from, to)
+	 */
+	static void insertionSort(int[] arr, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			int insertVal = arr[i];
+			int j = i - 1;
+			while (j >= from && arr[j] > insertVal) {
+				arr[j + 1] = arr[j];
+				j--;
+			}
+			arr[j + 1] = insertVal;
+		}
+	}
+
+	/**
+	 *  [from, to), ˻ʱ
+	 */
+	static void heapSort(int[] arr, int from, int to) {
+		int n = to - from;
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			siftDown(arr, from, i, n);
+		}
+		for (int j = n - 1; j > 0; j--) {
+			int temp = arr[from + j];
+			arr[from + j] = arr[from];
+			arr[from] = temp;
+			siftDown(arr, from, 0, j);
+		}
+	}
+
+	/**
+	 *  i Ϊɴ󶥶, ±궼 base 
+	 */
+	private static void siftDown(int[] arr, int base, int i, int length) {
+		int temp = arr[base + i];
+		for (int k = i * 2 + 1; k < length; k = k * 2 + 1) {
+			if (k + 1 < length && arr[base + k] < arr[base + k + 1]) {
+				k++;
+			}
+			if (arr[base + k] <= temp) {
+				break;
+			}
+			arr[base + i] = arr[base + k];
+			i = k;
+		}
+		arr[base + i] = temp;
+	}
+
+	/**
+	 * ߳ long  [from, to)
+	 */
+	public static void sort(long[] arr, int from, int to) {
+		checkRange(arr.length, from, to);
+		introSort(arr, from, to, depthLimit(to - from));
+	}
+
+	/**
+	 * ߳ [from, to), ȶ, Ҫȶʱ MergetSort
+	 * @param c Ƚ
+	 */
+	public static <T> void sort(T[] arr, int from, int to, Comparator<? super T> c) {
+		checkRange(arr.length, from, to);
+		introSort(arr, from, to, depthLimit(to - from), c);
+	}
+
+	static void introSort(long[] arr, int from, int to, int depth) {
+		while (to - from > INSERTION_THRESHOLD) {
+			if (depth-- == 0) {
+				heapSort(arr, from, to);
+				return;
+			}
+			int mid = partition(arr, from, to);
+			if (mid - from < to - mid) {
+				introSort(arr, from, mid, depth);
+				from = mid;
+			} else {
+				introSort(arr, mid, to, depth);
+				to = mid;
+			}
+		}
+		insertionSort(arr, from, to);
+	}
+
+	static int partition(long[] arr, int from, int to) {
+		int n = to - from;
+		int mid = from + (n >>> 1);
+		long pivot;
+		if (n <= NINTHER_THRESHOLD) {
+			pivot = median(arr[from], arr[mid], arr[to - 1]);
+		} else {
+			int step = n >>> 3;
+			pivot = median(median(arr[from], arr[from + step], arr[from + 2 * step]),
+					median(arr[mid - step], arr[mid], arr[mid + step]),
+					median(arr[to - 1 - 2 * step], arr[to - 1 - step], arr[to - 1]));
+		}
+		int l = from - 1;
+		int r = to;
+		while (true) {
+			do {
+				l++;
+			} while (arr[l] < pivot);
+			do {
+				r--;
+			} while (arr[r] > pivot);
+			if (l >= r) {
+				return r + 1 < to ? r + 1 : r;
+			}
+			long temp = arr[l];
+			arr[l] = arr[r];
+			arr[r] = temp;
+		}
+	}
+
+	static long median(long a, long b, long c) {
+		return a < b ? (b < c ? b : (a < c ? c : a)) : (a < c ? a : (b < c ? c : b));
+	}
+
+	static void insertionSort(long[] arr, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			long insertVal = arr[i];
+			int j = i - 1;
+			while (j >= from && arr[j] > insertVal) {
+				arr[j + 1] = arr[j];
+				j--;
+			}
+			arr[j + 1] = insertVal;
+		}
+	}
+
+	static void heapSort(long[] arr, int from, int to) {
+		int n = to - from;
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			siftDown(arr, from, i, n);
+		}
+		for (int j = n - 1; j > 0; j--) {
+			long temp = arr[from + j];
+			arr[from + j] = arr[from];
+			arr[from] = temp;
+			siftDown(arr, from, 0, j);
+		}
+	}
+
+	private static void siftDown(long[] arr, int base, int i, int length) {
+		long temp = arr[base + i];
+		for (int k = i * 2 + 1; k < length; k = k * 2 + 1) {
+			if (k + 1 < length && arr[base + k] < arr[base + k + 1]) {
+				k++;
+			}
+			if (arr[base + k] <= temp) {
+				break;
+			}
+			arr[base + i] = arr[base + k];
+			i = k;
+		}
+		arr[base + i] = temp;
+	}
+
+	static <T> void introSort(T[] arr, int from, int to, int depth, Comparator<? super T> c) {
+		while (to - from > INSERTION_THRESHOLD) {
+			if (depth-- == 0) {
+				heapSort(arr, from, to, c);
+				return;
+			}
+			int mid = partition(arr, from, to, c);
+			if (mid - from < to - mid) {
+				introSort(arr, from, mid, depth, c);
+				from = mid;
+			} else {
+				introSort(arr, mid, to, depth, c);
+				to = mid;
+			}
+		}
+		insertionSort(arr, from, to, c);
+	}
+
+	static <T> int partition(T[] arr, int from, int to, Comparator<? super T> c) {
+		int n = to - from;
+		int mid = from + (n >>> 1);
+		T pivot;
+		if (n <= NINTHER_THRESHOLD) {
+			pivot = median(arr[from], arr[mid], arr[to - 1], c);
+		} else {
+			int step = n >>> 3;
+			pivot = median(median(arr[from], arr[from + step], arr[from + 2 * step], c),
+					median(arr[mid - step], arr[mid], arr[mid + step], c),
+					median(arr[to - 1 - 2 * step], arr[to - 1 - step], arr[to - 1], c), c);
+		}
+		int l = from - 1;
+		int r = to;
+		while (true) {
+			do {
+				l++;
+			} while (c.compare(arr[l], pivot) < 0);
+			do {
+				r--;
+			} while (c.compare(arr[r], pivot) > 0);
+			if (l >= r) {
+				return r + 1 < to ? r + 1 : r;
+			}
+			T temp = arr[l];
+			arr[l] = arr[r];
+			arr[r] = temp;
+		}
+	}
+
+	static <T> T median(T a, T b, T c, Comparator<? super T> cmp) {
+		if (cmp.compare(a, b) < 0) {
+			return cmp.compare(b, c) < 0 ? b : (cmp.compare(a, c) < 0 ? c : a);
+		}
+		return cmp.compare(a, c) < 0 ? a : (cmp.compare(b, c) < 0 ? c : b);
+	}
+
+	static <T> void insertionSort(T[] arr, int from, int to, Comparator<? super T> c) {
+		for (int i = from + 1; i < to; i++) {
+			T insertVal = arr[i];
+			int j = i - 1;
+			while (j >= from && c.compare(arr[j], insertVal) > 0) {
+				arr[j + 1] = arr[j];
+				j--;
+			}
+			arr[j + 1] = insertVal;
+		}
+	}
+
+	static <T> void heapSort(T[] arr, int from, int to, Comparator<? super T> c) {
+		int n = to - from;
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			siftDown(arr, from, i, n, c);
+		}
+		for (int j = n - 1; j > 0; j--) {
+			T temp = arr[from + j];
+			arr[from + j] = arr[from];
+			arr[from] = temp;
+			siftDown(arr, from, 0, j, c);
+		}
+	}
+
+	private static <T> void siftDown(T[] arr, int base, int i, int length, Comparator<? super T> c) {
+		T temp = arr[base + i];
+		for (int k = i * 2 + 1; k < length; k = k * 2 + 1) {
+			if (k + 1 < length && c.compare(arr[base + k], arr[base + k + 1]) < 0) {
+				k++;
+			}
+			if (c.compare(arr[base + k], temp) <= 0) {
+				break;
+			}
+			arr[base + i] = arr[base + k];
+			i = k;
+		}
+		arr[base + i] = temp;
+	}
+
+	/**
+	 * : һ fork ȥ, һԼ
+	 */
+	private static class SortTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int[] arr;
+		private final int from;
+		private final int to;
+		private final int depth;
+
+		SortTask(int[] arr, int from, int to, int depth) {
+			this.arr = arr;
+			this.from = from;
+			this.to = to;
+			this.depth = depth;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				introSort(arr, from, to, depth);
+				return;
+			}
+			if (depth == 0) {
+				heapSort(arr, from, to);
+				return;
+			}
+			int mid = partition(arr, from, to);
+			SortTask left = new SortTask(arr, from, mid, depth - 1);
+			left.fork();
+			new SortTask(arr, mid, to, depth - 1).compute();
+			left.join();
+		}
+	}
+}
@@ -0,0 +1,402 @@
+package com.atguigu.sort;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+/**
+ * ð(loser tree)·鲢:  k ϲһ
+ * ˼·
+ * 1. һȫ, k Ҷ, ÿڲ¼ǳ"", tree[0] ¼ܹھ
+ * 2. ھ, ڵһ, Ȼֻ·ÿ¼İ߱һ:
+ *    ˾ͰԼڽ, ʤ߼; һ log2(k) 
+ *    Сѵ adjustHeap ÿҪȱȽٺԼ,  2*log2(k) , ҰҪֵ
+ * 3. 뿴, Զǰ; ͬʱСӮ, Ժϲȶ
+ * 4.  PrimitiveIterator.OfLong(int  fromInts װ), Ҳļ:
+ *    ÿļһСĻ(Ĭ 8KB), 1000 ·ͬʱϲҲֻҪ MB ڴ
+ * 5. ͳ: Ѻϲļ¼Ƚϴûÿ빱˶, ϲļʱ
+ */
+public class LoserTreeMerger implements PrimitiveIterator.OfLong, Closeable {
+
+	/** ϲļʱÿĬϻС */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 13;
+	/** ÿϲôһθ߳̿Ľ */
+	private static final int PROGRESS_INTERVAL = 1 << 12;
+
+	private final PrimitiveIterator.OfLong[] inputs;
+	private final int k;
+	private final int[] tree; // tree[0] ǹھ, tree[1..k-1] ÿİ, Ķı
+	private final long[] keys; // ÿ뵱ǰ
+	private final boolean[] exhausted; // ǷѾ
+	private final long[] counts; // ÿѾ˶
+	private final long totalRecords; // һж, ֪ʱ -1
+
+	private long recordsMerged;
+	private long comparisons;
+	private volatile long publishedRecords; // ߳̿Ѻϲ¼
+
+	public static void main(String[] args) throws IOException {
+		//1000 ·ĺϲ
+		int k = 1000;
+		Random random = new Random();
+		List<PrimitiveIterator.OfLong> inputs = new ArrayList<>();
+		long total = 0;
+		for (int i = 0; i < k; i++) {
+			long[] run = new long[random.nextInt(2000)];
+			for (int j = 0; j < run.length; j++) {
+				run[j] = random.nextLong();
+			}
+			Arrays.sort(run);
+			total += run.length;
+			inputs.add(Arrays.stream(run).iterator());
+		}
+		long start = System.nanoTime();
+		LoserTreeMerger merger = new LoserTreeMerger(inputs);
+		long prev = Long.MIN_VALUE;
+		boolean sorted = true;
+		while (merger.hasNext()) {
+			long v = merger.nextLong();
+			sorted &= prev <= v;
+			prev = v;
+		}
+		System.out.println(k + " ·ϲ " + total + " : " + (System.nanoTime() - start) / 1000000 + " ms, =" + sorted);
+		System.out.println("ϲ=" + merger.getRecordsMerged() + " Ƚ=" + merger.getComparisons() + " ÿȽ="
+				+ (double) merger.getComparisons() / merger.getRecordsMerged());
+	}
+
+	/**
+	 * @param inputs , ÿǴС
+	 */
+	public LoserTreeMerger(List<? extends PrimitiveIterator.OfLong> inputs) {
+		this(inputs.toArray(new PrimitiveIterator.OfLong[0]), -1);
+	}
+
+	private LoserTreeMerger(PrimitiveIterator.OfLong[] inputs, long totalRecords) {
+		this.inputs = inputs;
+		this.k = inputs.length;
+		this.tree = new int[Math.max(k, 1)];
+		this.keys = new long[k];
+		this.exhausted = new boolean[k];
+		this.counts = new long[k];
+		this.totalRecords = totalRecords;
+		build();
+	}
+
+	public static LoserTreeMerger openFiles(List<String> files, int width) throws IOException {
+		return openFiles(files, width, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * һļ, ÿļǶ int  long ¼()
+	 * @param files ļ
+	 * @param width ¼ֽ, 4  8
+	 * @param bufferSize ÿļĻС
+	 */
+	public static LoserTreeMerger openFiles(List<String> files, int width, int bufferSize) throws IOException {
+		if (width != 4 && width != 8) {
+			throw new IllegalArgumentException("¼ֻ 4  8: " + width);
+		}
+		FileInput[] inputs = new FileInput[files.size()];
+		long total = 0;
+		try {
+			for (int i = 0; i < inputs.length; i++) {
+				inputs[i] = new FileInput(files.get(i), width, bufferSize);
+				total += inputs[i].channel.size() / width;
+			}
+			return new LoserTreeMerger(inputs, total);
+		} catch (IOException | RuntimeException e) {
+			for (FileInput input : inputs) {
+				if (input != null) {
+					input.close();
+				}
+			}
+			throw unwrap(e);
+		}
+	}
+
+	/**
+	 *  int ĵװ long 
+	 */
+	public static PrimitiveIterator.OfLong fromInts(PrimitiveIterator.OfInt it) {
+		return new PrimitiveIterator.OfLong() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public long nextLong() {
+				return it.nextInt();
+			}
+		};
+	}
+
+	/**
+	 * һζÿ, ҶϱȳÿʤߺͰ
+	 */
+	private void build() {
+		for (int i = 0; i < k; i++) {
+			advance(i);
+		}
+		if (k == 0) {
+			return;
+		}
+		//winners[n] ǽ n ǳʤ, Ҷ i Ľ k + i
+		int[] winners = new int[2 * k];
+		for (int i = 0; i < k; i++) {
+			winners[k + i] = i;
+		}
+		for (int n = k - 1; n >= 1; n--) {
+			int a = winners[2 * n];
+			int b = winners[2 * n + 1];
+			if (beats(a, b)) {
+				winners[n] = a;
+				tree[n] = b;
+			} else {
+				winners[n] = b;
+				tree[n] = a;
+			}
+		}
+		tree[0] = k == 1 ? 0 : winners[1];
+	}
+
+	/**
+	 *  i һ, ˾ͱΪ
+	 */
+	private void advance(int i) {
+		if (inputs[i].hasNext()) {
+			keys[i] = inputs[i].nextLong();
+		} else {
+			exhausted[i] = true;
+		}
+	}
+
+	/**
+	 *  a Ƿʤ b: Զ, ͬļСӮ
+	 */
+	private boolean beats(int a, int b) {
+		comparisons++;
+		if (exhausted[a]) {
+			return false;
+		}
+		if (exhausted[b]) {
+			return true;
+		}
+		return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return k > 0 && !exhausted[tree[0]];
+	}
+
+	@Override
+	public long nextLong() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		int winner = tree[0];
+		long result = keys[winner];
+		counts[winner]++;
+		if (++recordsMerged % PROGRESS_INTERVAL == 0) {
+			publishedRecords = recordsMerged;
+		}
+		advance(winner);
+		//Źھ·, ÿֻһ
+		for (int n = (winner + k) >>> 1; n >= 1; n >>>= 1) {
+			if (beats(tree[n], winner)) {
+				int loser = winner;
+				winner = tree[n];
+				tree[n] = loser;
+			}
+		}
+		tree[0] = winner;
+		if (exhausted[winner]) {
+			publishedRecords = recordsMerged;
+		}
+		return result;
+	}
+
+	/**
+	 * ʣµȫϲдļ
+	 * @param dstFile Ŀļ
+	 * @param width ¼ֽ, 4  8
+	 * @return д˶
+	 */
+	public long writeTo(String dstFile, int width) throws IOException {
+		if (width != 4 && width != 8) {
+			throw new IllegalArgumentException("¼ֻ 4  8: " + width);
+		}
+		long written = 0;
+		try (FileChannel out = FileChannel.open(Paths.get(dstFile), StandardOpenOption.WRITE,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buf = ByteBuffer.allocateDirect(1 << 16);
+			while (hasNext()) {
+				if (buf.remaining() < width) {
+					flush(out, buf);
+				}
+				if (width == 4) {
+					buf.putInt((int) nextLong());
+				} else {
+					buf.putLong(nextLong());
+				}
+				written++;
+			}
+			flush(out, buf);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		return written;
+	}
+
+	private static void flush(FileChannel out, ByteBuffer buf) throws IOException {
+		buf.flip();
+		while (buf.hasRemaining()) {
+			out.write(buf);
+		}
+		buf.clear();
+	}
+
+	/**
+	 * @return ĸ
+	 */
+	public int getInputCount() {
+		return k;
+	}
+
+	/**
+	 * @return Ѿϲ˶
+	 */
+	public long getRecordsMerged() {
+		return recordsMerged;
+	}
+
+	/**
+	 * @return һȽ˶ٴ()
+	 */
+	public long getComparisons() {
+		return comparisons;
+	}
+
+	/**
+	 * @return û
+	 */
+	public int getActiveInputs() {
+		int active = 0;
+		for (boolean done : exhausted) {
+			if (!done) {
+				active++;
+			}
+		}
+		return active;
+	}
+
+	/**
+	 * @param input ı
+	 * @return Ѿ˶
+	 */
+	public long getRecordsFrom(int input) {
+		return counts[input];
+	}
+
+	/**
+	 * ϲĽ, ߳, ÿ PROGRESS_INTERVAL һ
+	 * @return 0 ~ 1, ֪һжʱ(ǵ) -1
+	 */
+	public double getProgress() {
+		if (totalRecords < 0) {
+			return -1;
+		}
+		return totalRecords == 0 ? 1 : (double) publishedRecords / totalRecords;
+	}
+
+	/**
+	 * رʵ Closeable 
+	 */
+	@Override
+	public void close() throws IOException {
+		IOException first = null;
+		for (PrimitiveIterator.OfLong input : inputs) {
+			if (input instanceof Closeable) {
+				try {
+					((Closeable) input).close();
+				} catch (IOException e) {
+					if (first == null) {
+						first = e;
+					}
+				}
+			}
+		}
+		if (first != null) {
+			throw first;
+		}
+	}
+
+	private static IOException unwrap(Exception e) {
+		if (e instanceof IOException) {
+			return (IOException) e;
+		}
+		if (e instanceof UncheckedIOException) {
+			return ((UncheckedIOException) e).getCause();
+		}
+		throw (RuntimeException) e;
+	}
+
+	/**
+	 * ļ: һ FileChannel һСֱӻ
+	 * ׳ IOException, ļʱװ UncheckedIOException
+	 */
+	private static class FileInput implements PrimitiveIterator.OfLong, Closeable {
+
+		private final FileChannel channel;
+		private final ByteBuffer buf;
+		private final int width;
+
+		FileInput(String file, int width, int bufferSize) throws IOException {
+			this.channel = FileChannel.open(Paths.get(file), StandardOpenOption.READ);
+			this.buf = ByteBuffer.allocateDirect(Math.max(width, bufferSize - bufferSize % width));
+			this.width = width;
+			buf.flip();
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (buf.remaining() >= width) {
+				return true;
+			}
+			try {
+				buf.compact();
+				while (buf.position() < width && channel.read(buf) >= 0) {
+					//, ֱչһ¼߶ļβ
+				}
+				buf.flip();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return buf.remaining() >= width;
+		}
+
+		@Override
+		public long nextLong() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return width == 4 ? buf.getInt() : buf.getLong();
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
@@ -2,10 +2,38 @@ package com.atguigu.sort;
 
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+/**
+ * 鲢
+ * ˵
+ * 1. mergeSort д: Զµݹ, ÿκϲ궼Ҫ temp  arr
+ * 2. bottomUpMergeSort: Ե, òÿ RUN Ԫź, ٰ RUN, 2*RUN, 4*RUN... ϲ
+ *    arr  scratch ԴĿ(ping-pong), ÿһֻһ, ÿ
+ * 3. naturalMergeSort:  TimSort һﱾĶ(run), Ķηת, ̵̫Ķöֲ벹 MIN_RUN,
+ *    Ȼϲ; ϲʱһӮ MIN_GALLOP ξ͸"ɱ"(galloping):  + ҳһ߻Ŷٸ, һοȥ
+ *    ݺϲͱȽϴٺܶ, ȫֻɨһ
+ * 4. parallelMergeSort: ֳ뽻 ForkJoinPool ͬʱ, źúϲ; ϲҲǲе:
+ *    ȡϳһߵмԪ, һ߶ҵλ, Ͳصĺϲ
+ * 5. ȶ: ȵԪرԭȺ˳, Ҳֶ֧ + Comparator
+ * 6. scratch ǵ߸ʱ,  arr ͬ±, Գ to; ʱһֱͬһ, ÿη
+ */
 public class MergetSort {
 
+	/** bottomUpMergeSort ʼϲǰÿεĳ */
+	private static final int RUN = 32;
+	/** naturalMergeSort ε̳ */
+	private static final int MIN_RUN = 32;
+	/** һӮôξͿʼɱ */
+	private static final int MIN_GALLOP = 7;
+	/** ôԪزŲ */
+	public static final int PARALLEL_THRESHOLD = 1 << 13;
+	/** ôԪزŲкϲ */
+	private static final int PARALLEL_MERGE_THRESHOLD = 1 << 13;
+
 	public static void main(String[] args) {
 		//int arr[] = { 8, 4, 5, 7, 1, 3, 6, 2 }; //
 		
@@ -29,6 +57,27 @@ public class MergetSort {
 		System.out.println("ǰʱ=" + date2Str);
  		
  		//System.out.println("鲢=" + Arrays.toString(arr));
+
+		//µļд, temp һֱظʹ
+		int[] data = new int[arr.length];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (int) (Math.random() * 8000000);
+		}
+		int[] copy = data.clone();
+		long start = System.nanoTime();
+		bottomUpMergeSort(copy, 0, copy.length, temp);
+		System.out.println("Ե: " + (System.nanoTime() - start) / 1000000 + " ms");
+		copy = data.clone();
+		start = System.nanoTime();
+		naturalMergeSort(copy, 0, copy.length, temp);
+		System.out.println(" + ɱ: " + (System.nanoTime() - start) / 1000000 + " ms");
+		copy = data.clone();
+		start = System.nanoTime();
+		parallelMergeSort(copy, 0, copy.length, temp, ForkJoinPool.commonPool());
+		System.out.println(": " + (System.nanoTime() - start) / 1000000 + " ms");
+		start = System.nanoTime();
+		naturalMergeSort(copy, 0, copy.length, temp);
+		System.out.println("Ѿһ: " + (System.nanoTime() - start) / 1000000 + " ms");
 	}
 	
 	
@@ -109,4 +158,746 @@ public class MergetSort {
 		
 	}
 
+	public static void bottomUpMergeSort(int[] arr) {
+		bottomUpMergeSort(arr, 0, arr.length, new int[arr.length]);
+	}
+
+	/**
+	 * ԵϵĹ鲢 [from, to)
+	 * @param arr Ҫ
+	 * @param from ʼ±()
+	 * @param to ±()
+	 * @param scratch ʱ,  to
+	 */
+	public static void bottomUpMergeSort(int[] arr, int from, int to, int[] scratch) {
+		checkRange(arr.length, from, to, scratch.length);
+		//1. ÿ RUN Ԫһ, òź
+		//   ±궼Ⱥ to ټ, ӽ Integer.MAX_VALUE ʱ i + RUN Ҳᳬ int
+		for (int i = from; i < to;) {
+			int end = to - i <= RUN ? to : i + RUN;
+			IntroSort.insertionSort(arr, i, end);
+			i = end;
+		}
+		//2. γÿַ, ϲһ
+		//   width  lo  long:  2^30 ʱ lo + 2 * widthwidth * 2 ᳬ int
+		int[] src = arr;
+		int[] dst = scratch;
+		for (long width = RUN; width < to - from; width *= 2) {
+			for (long lo = from; lo < to; lo += 2 * width) {
+				int mid = (int) Math.min(lo + width, to);
+				int hi = (int) Math.min(mid + width, to);
+				merge(src, (int) lo, mid, mid, hi, dst, (int) lo);
+			}
+			int[] t = src;
+			src = dst;
+			dst = t;
+		}
+		//3.  scratch Ļ, ࿽һ
+		if (src != arr) {
+			System.arraycopy(src, from, arr, from, to - from);
+		}
+	}
+
+	public static void naturalMergeSort(int[] arr) {
+		naturalMergeSort(arr, 0, arr.length, new int[arr.length]);
+	}
+
+	/**
+	 *  + ɱϲĹ鲢 [from, to)
+	 * @param scratch ʱ,  to
+	 */
+	public static void naturalMergeSort(int[] arr, int from, int to, int[] scratch) {
+		checkRange(arr.length, from, to, scratch.length);
+		int n = to - from;
+		if (n <= MIN_RUN) {
+			binaryInsertionSort(arr, from, to, from + countRun(arr, from, to));
+			return;
+		}
+		//1. ҳе, runs ÿεʼ±,  to
+		int[] runs = new int[n / MIN_RUN + 2];
+		int count = 0;
+		runs[count++] = from;
+		for (int lo = from; lo < to;) {
+			int hi = lo + countRun(arr, lo, to);
+			if (hi - lo < MIN_RUN) {
+				int force = lo + Math.min(MIN_RUN, to - lo);
+				binaryInsertionSort(arr, lo, force, hi);
+				hi = force;
+			}
+			runs[count++] = hi;
+			lo = hi;
+		}
+		//2. ڵĶϲһ, ֱֻʣһ
+		int[] src = arr;
+		int[] dst = scratch;
+		while (count > 2) {
+			int w = 0;
+			int k = 0;
+			for (; k + 2 < count; k += 2) {
+				gallopMerge(src, runs[k], runs[k + 1], runs[k + 1], runs[k + 2], dst, runs[k]);
+				runs[w++] = runs[k];
+			}
+			if (k + 1 < count) {
+				//, һԭȥ
+				System.arraycopy(src, runs[k], dst, runs[k], runs[k + 1] - runs[k]);
+				runs[w++] = runs[k];
+			}
+			runs[w++] = to;
+			count = w;
+			int[] t = src;
+			src = dst;
+			dst = t;
+		}
+		if (src != arr) {
+			System.arraycopy(src, from, arr, from, n);
+		}
+	}
+
+	/**
+	 * long  naturalMergeSort,  int İ汾һ
+	 * @param scratch ʱ,  to
+	 */
+	public static void naturalMergeSort(long[] arr, int from, int to, long[] scratch) {
+		checkRange(arr.length, from, to, scratch.length);
+		int n = to - from;
+		if (n <= MIN_RUN) {
+			binaryInsertionSort(arr, from, to, from + countRun(arr, from, to));
+			return;
+		}
+		int[] runs = new int[n / MIN_RUN + 2];
+		int count = 0;
+		runs[count++] = from;
+		for (int lo = from; lo < to;) {
+			int hi = lo + countRun(arr, lo, to);
+			if (hi - lo < MIN_RUN) {
+				int force = lo + Math.min(MIN_RUN, to - lo);
+				binaryInsertionSort(arr, lo, force, hi);
+				hi = force;
+			}
+			runs[count++] = hi;
+			lo = hi;
+		}
+		long[] src = arr;
+		long[] dst = scratch;
+		while (count > 2) {
+			int w = 0;
+			int k = 0;
+			for (; k + 2 < count; k += 2) {
+				gallopMerge(src, runs[k], runs[k + 1], runs[k + 1], runs[k + 2], dst, runs[k]);
+				runs[w++] = runs[k];
+			}
+			if (k + 1 < count) {
+				System.arraycopy(src, runs[k], dst, runs[k], runs[k + 1] - runs[k]);
+				runs[w++] = runs[k];
+			}
+			runs[w++] = to;
+			count = w;
+			long[] t = src;
+			src = dst;
+			dst = t;
+		}
+		if (src != arr) {
+			System.arraycopy(src, from, arr, from, n);
+		}
+	}
+
+	private static int countRun(long[] arr, int lo, int hi) {
+		int i = lo + 1;
+		if (i >= hi) {
+			return hi - lo;
+		}
+		if (arr[i++] < arr[lo]) {
+			while (i < hi && arr[i] < arr[i - 1]) {
+				i++;
+			}
+			for (int l = lo, r = i - 1; l < r; l++, r--) {
+				long t = arr[l];
+				arr[l] = arr[r];
+				arr[r] = t;
+			}
+		} else {
+			while (i < hi && arr[i] >= arr[i - 1]) {
+				i++;
+			}
+		}
+		return i - lo;
+	}
+
+	private static void binaryInsertionSort(long[] arr, int lo, int hi, int start) {
+		for (int i = Math.max(start, lo + 1); i < hi; i++) {
+			long insertVal = arr[i];
+			int l = lo;
+			int r = i;
+			while (l < r) {
+				int m = (l + r) >>> 1;
+				if (insertVal < arr[m]) {
+					r = m;
+				} else {
+					l = m + 1;
+				}
+			}
+			System.arraycopy(arr, l, arr, l + 1, i - l);
+			arr[l] = insertVal;
+		}
+	}
+
+	private static void gallopMerge(long[] src, int lo1, int hi1, int lo2, int hi2, long[] dst, int k) {
+		if (lo1 == hi1 || lo2 == hi2 || src[hi1 - 1] <= src[lo2]) {
+			System.arraycopy(src, lo1, dst, k, hi1 - lo1);
+			System.arraycopy(src, lo2, dst, k + hi1 - lo1, hi2 - lo2);
+			return;
+		}
+		int i = lo1;
+		int j = lo2;
+		int leftWins = 0;
+		int rightWins = 0;
+		while (i < hi1 && j < hi2) {
+			if (src[j] < src[i]) {
+				dst[k++] = src[j++];
+				leftWins = 0;
+				if (++rightWins >= MIN_GALLOP && j < hi2) {
+					int end = gallop(src, j, hi2, src[i], false);
+					System.arraycopy(src, j, dst, k, end - j);
+					k += end - j;
+					j = end;
+					rightWins = 0;
+				}
+			} else {
+				dst[k++] = src[i++];
+				rightWins = 0;
+				if (++leftWins >= MIN_GALLOP && i < hi1) {
+					int end = gallop(src, i, hi1, src[j], true);
+					System.arraycopy(src, i, dst, k, end - i);
+					k += end - i;
+					i = end;
+					leftWins = 0;
+				}
+			}
+		}
+		System.arraycopy(src, i, dst, k, hi1 - i);
+		System.arraycopy(src, j, dst, k + hi1 - i, hi2 - j);
+	}
+
+	private static int gallop(long[] arr, int lo, int hi, long key, boolean inclusive) {
+		int prev = lo;
+		long step = 1; // long: κܳʱ step һֱҲ
+		int cur = lo;
+		while (cur < hi && (inclusive ? arr[cur] <= key : arr[cur] < key)) {
+			prev = cur + 1;
+			cur = (int) Math.min(lo + step, hi);
+			step <<= 1;
+		}
+		int l = prev;
+		int r = Math.min(cur, hi);
+		while (l < r) {
+			int m = (l + r) >>> 1;
+			if (inclusive ? arr[m] <= key : arr[m] < key) {
+				l = m + 1;
+			} else {
+				r = m;
+			}
+		}
+		return l;
+	}
+
+	public static void parallelMergeSort(int[] arr) {
+		parallelMergeSort(arr, 0, arr.length, new int[arr.length], ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * й鲢 [from, to), ݲ pool ֻһ߳ʱ naturalMergeSort
+	 * @param scratch ʱ,  to
+	 * @param pool е̳߳
+	 */
+	public static void parallelMergeSort(int[] arr, int from, int to, int[] scratch, ForkJoinPool pool) {
+		checkRange(arr.length, from, to, scratch.length);
+		if (to - from <= PARALLEL_THRESHOLD || pool.getParallelism() <= 1) {
+			naturalMergeSort(arr, from, to, scratch);
+		} else {
+			pool.invoke(new IntSortTask(arr, scratch, from, to, false));
+		}
+	}
+
+	public static <T> void naturalMergeSort(T[] arr, Comparator<? super T> c) {
+		naturalMergeSort(arr, 0, arr.length, c, Arrays.copyOf(arr, arr.length));
+	}
+
+	/**
+	 *  naturalMergeSort, ȶ
+	 * @param c Ƚ
+	 * @param scratch ʱ,  to
+	 */
+	public static <T> void naturalMergeSort(T[] arr, int from, int to, Comparator<? super T> c, T[] scratch) {
+		checkRange(arr.length, from, to, scratch.length);
+		int n = to - from;
+		if (n <= MIN_RUN) {
+			binaryInsertionSort(arr, from, to, from + countRun(arr, from, to, c), c);
+			return;
+		}
+		int[] runs = new int[n / MIN_RUN + 2];
+		int count = 0;
+		runs[count++] = from;
+		for (int lo = from; lo < to;) {
+			int hi = lo + countRun(arr, lo, to, c);
+			if (hi - lo < MIN_RUN) {
+				int force = lo + Math.min(MIN_RUN, to - lo);
+				binaryInsertionSort(arr, lo, force, hi, c);
+				hi = force;
+			}
+			runs[count++] = hi;
+			lo = hi;
+		}
+		T[] src = arr;
+		T[] dst = scratch;
+		while (count > 2) {
+			int w = 0;
+			int k = 0;
+			for (; k + 2 < count; k += 2) {
+				gallopMerge(src, runs[k], runs[k + 1], runs[k + 1], runs[k + 2], dst, runs[k], c);
+				runs[w++] = runs[k];
+			}
+			if (k + 1 < count) {
+				System.arraycopy(src, runs[k], dst, runs[k], runs[k + 1] - runs[k]);
+				runs[w++] = runs[k];
+			}
+			runs[w++] = to;
+			count = w;
+			T[] t = src;
+			src = dst;
+			dst = t;
+		}
+		if (src != arr) {
+			System.arraycopy(src, from, arr, from, n);
+		}
+	}
+
+	public static <T> void parallelMergeSort(T[] arr, Comparator<? super T> c) {
+		parallelMergeSort(arr, 0, arr.length, c, Arrays.copyOf(arr, arr.length), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Ĳй鲢, ȶ
+	 * @param scratch ʱ,  to
+	 */
+	public static <T> void parallelMergeSort(T[] arr, int from, int to, Comparator<? super T> c, T[] scratch,
+			ForkJoinPool pool) {
+		checkRange(arr.length, from, to, scratch.length);
+		if (to - from <= PARALLEL_THRESHOLD || pool.getParallelism() <= 1) {
+			naturalMergeSort(arr, from, to, c, scratch);
+		} else {
+			pool.invoke(new SortTask<>(arr, scratch, from, to, c, false));
+		}
+	}
+
+	private static void checkRange(int length, int from, int to, int scratchLength) {
+		IntroSort.checkRange(length, from, to);
+		if (scratchLength < to) {
+			throw new IllegalArgumentException("ʱ̫С: " + scratchLength + " < " + to);
+		}
+	}
+
+	/**
+	 *  lo ʼεĳ, ϸݼĶλᷭתɵ
+	 * ֻתϸݼĶ, ԪصĶηתԪص˳ͷ, ȶ
+	 */
+	private static int countRun(int[] arr, int lo, int hi) {
+		int i = lo + 1;
+		if (i >= hi) {
+			return hi - lo;
+		}
+		if (arr[i++] < arr[lo]) {
+			while (i < hi && arr[i] < arr[i - 1]) {
+				i++;
+			}
+			for (int l = lo, r = i - 1; l < r; l++, r--) {
+				int t = arr[l];
+				arr[l] = arr[r];
+				arr[r] = t;
+			}
+		} else {
+			while (i < hi && arr[i] >= arr[i - 1]) {
+				i++;
+			}
+		}
+		return i - lo;
+	}
+
+	private static <T> int countRun(T[] arr, int lo, int hi, Comparator<? super T> c) {
+		int i = lo + 1;
+		if (i >= hi) {
+			return hi - lo;
+		}
+		if (c.compare(arr[i++], arr[lo]) < 0) {
+			while (i < hi && c.compare(arr[i], arr[i - 1]) < 0) {
+				i++;
+			}
+			for (int l = lo, r = i - 1; l < r; l++, r--) {
+				T t = arr[l];
+				arr[l] = arr[r];
+				arr[r] = t;
+			}
+		} else {
+			while (i < hi && c.compare(arr[i], arr[i - 1]) >= 0) {
+				i++;
+			}
+		}
+		return i - lo;
+	}
+
+	/**
+	 * ֲ: [lo, start) Ѿ,  [start, hi) βȥ
+	 * ҲλʱҵһԪصĺ, ȶ
+	 */
+	private static void binaryInsertionSort(int[] arr, int lo, int hi, int start) {
+		for (int i = Math.max(start, lo + 1); i < hi; i++) {
+			int insertVal = arr[i];
+			int l = lo;
+			int r = i;
+			while (l < r) {
+				int m = (l + r) >>> 1;
+				if (insertVal < arr[m]) {
+					r = m;
+				} else {
+					l = m + 1;
+				}
+			}
+			System.arraycopy(arr, l, arr, l + 1, i - l);
+			arr[l] = insertVal;
+		}
+	}
+
+	private static <T> void binaryInsertionSort(T[] arr, int lo, int hi, int start, Comparator<? super T> c) {
+		for (int i = Math.max(start, lo + 1); i < hi; i++) {
+			T insertVal = arr[i];
+			int l = lo;
+			int r = i;
+			while (l < r) {
+				int m = (l + r) >>> 1;
+				if (c.compare(insertVal, arr[m]) < 0) {
+					r = m;
+				} else {
+					l = m + 1;
+				}
+			}
+			System.arraycopy(arr, l, arr, l + 1, i - l);
+			arr[l] = insertVal;
+		}
+	}
+
+	/**
+	 * ͨĺϲ:  src[lo1, hi1)  src[lo2, hi2) ϲ dst д k ʼλ, ʱ
+	 */
+	private static void merge(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int k) {
+		int i = lo1;
+		int j = lo2;
+		while (i < hi1 && j < hi2) {
+			dst[k++] = src[j] < src[i] ? src[j++] : src[i++];
+		}
+		System.arraycopy(src, i, dst, k, hi1 - i);
+		System.arraycopy(src, j, dst, k + hi1 - i, hi2 - j);
+	}
+
+	/**
+	 * ɱĺϲ, ͬ merge
+	 */
+	private static void gallopMerge(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int k) {
+		if (lo1 == hi1 || lo2 == hi2 || src[hi1 - 1] <= src[lo2]) {
+			//岻ұ, ֱӽ
+			System.arraycopy(src, lo1, dst, k, hi1 - lo1);
+			System.arraycopy(src, lo2, dst, k + hi1 - lo1, hi2 - lo2);
+			return;
+		}
+		int i = lo1;
+		int j = lo2;
+		int leftWins = 0;
+		int rightWins = 0;
+		while (i < hi1 && j < hi2) {
+			if (src[j] < src[i]) {
+				dst[k++] = src[j++];
+				leftWins = 0;
+				if (++rightWins >= MIN_GALLOP && j < hi2) {
+					//ұӮ: ұС src[i] һοȥ
+					int end = gallop(src, j, hi2, src[i], false);
+					System.arraycopy(src, j, dst, k, end - j);
+					k += end - j;
+					j = end;
+					rightWins = 0;
+				}
+			} else {
+				dst[k++] = src[i++];
+				rightWins = 0;
+				if (++leftWins >= MIN_GALLOP && i < hi1) {
+					//Ӯ: Сڵ src[j] һοȥ
+					int end = gallop(src, i, hi1, src[j], true);
+					System.arraycopy(src, i, dst, k, end - i);
+					k += end - i;
+					i = end;
+					leftWins = 0;
+				}
+			}
+		}
+		System.arraycopy(src, i, dst, k, hi1 - i);
+		System.arraycopy(src, j, dst, k + hi1 - i, hi2 - j);
+	}
+
+	/**
+	 * ɱ:  arr[lo, hi) ҵһ key λ(inclusive Ϊ true)ߵһڵ key λ
+	 * Ȱ 1, 2, 4, 8... Ĳ, Խ key һ, Ҫҵλ lo ʱֱӶֿ
+	 */
+	private static int gallop(int[] arr, int lo, int hi, int key, boolean inclusive) {
+		int prev = lo;
+		long step = 1; // long: κܳʱ step һֱҲ
+		int cur = lo;
+		while (cur < hi && (inclusive ? arr[cur] <= key : arr[cur] < key)) {
+			prev = cur + 1;
+			cur = (int) Math.min(lo + step, hi);
+			step <<= 1;
+		}
+		int l = prev;
+		int r = Math.min(cur, hi);
+		while (l < r) {
+			int m = (l + r) >>> 1;
+			if (inclusive ? arr[m] <= key : arr[m] < key) {
+				l = m + 1;
+			} else {
+				r = m;
+			}
+		}
+		return l;
+	}
+
+	private static <T> void gallopMerge(T[] src, int lo1, int hi1, int lo2, int hi2, T[] dst, int k,
+			Comparator<? super T> c) {
+		if (lo1 == hi1 || lo2 == hi2 || c.compare(src[hi1 - 1], src[lo2]) <= 0) {
+			System.arraycopy(src, lo1, dst, k, hi1 - lo1);
+			System.arraycopy(src, lo2, dst, k + hi1 - lo1, hi2 - lo2);
+			return;
+		}
+		int i = lo1;
+		int j = lo2;
+		int leftWins = 0;
+		int rightWins = 0;
+		while (i < hi1 && j < hi2) {
+			if (c.compare(src[j], src[i]) < 0) {
+				dst[k++] = src[j++];
+				leftWins = 0;
+				if (++rightWins >= MIN_GALLOP && j < hi2) {
+					int end = gallop(src, j, hi2, src[i], false, c);
+					System.arraycopy(src, j, dst, k, end - j);
+					k += end - j;
+					j = end;
+					rightWins = 0;
+				}
+			} else {
+				dst[k++] = src[i++];
+				rightWins = 0;
+				if (++leftWins >= MIN_GALLOP && i < hi1) {
+					int end = gallop(src, i, hi1, src[j], true, c);
+					System.arraycopy(src, i, dst, k, end - i);
+					k += end - i;
+					i = end;
+					leftWins = 0;
+				}
+			}
+		}
+		System.arraycopy(src, i, dst, k, hi1 - i);
+		System.arraycopy(src, j, dst, k + hi1 - i, hi2 - j);
+	}
+
+	private static <T> int gallop(T[] arr, int lo, int hi, T key, boolean inclusive, Comparator<? super T> c) {
+		int prev = lo;
+		long step = 1; // long: κܳʱ step һֱҲ
+		int cur = lo;
+		while (cur < hi && before(arr[cur], key, inclusive, c)) {
+			prev = cur + 1;
+			cur = (int) Math.min(lo + step, hi);
+			step <<= 1;
+		}
+		int l = prev;
+		int r = Math.min(cur, hi);
+		while (l < r) {
+			int m = (l + r) >>> 1;
+			if (before(arr[m], key, inclusive, c)) {
+				l = m + 1;
+			} else {
+				r = m;
+			}
+		}
+		return l;
+	}
+
+	/**
+	 * a Ƿ key ǰ: inclusive ʱ a <= key,  a < key
+	 */
+	private static <T> boolean before(T a, T key, boolean inclusive, Comparator<? super T> c) {
+		int cmp = c.compare(a, key);
+		return inclusive ? cmp <= 0 : cmp < 0;
+	}
+
+	/**
+	 *  [from, to): ŵ a(intoB Ϊ false)  b(intoB Ϊ true)
+	 * Ľŵһ, ٺϲĿ, ÿһ㶼ֻһ
+	 */
+	private static class IntSortTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int[] a;
+		private final int[] b;
+		private final int from;
+		private final int to;
+		private final boolean intoB;
+
+		IntSortTask(int[] a, int[] b, int from, int to, boolean intoB) {
+			this.a = a;
+			this.b = b;
+			this.from = from;
+			this.to = to;
+			this.intoB = intoB;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				naturalMergeSort(a, from, to, b);
+				if (intoB) {
+					System.arraycopy(a, from, b, from, to - from);
+				}
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new IntSortTask(a, b, from, mid, !intoB), new IntSortTask(a, b, mid, to, !intoB));
+			new IntMergeTask(intoB ? a : b, from, mid, mid, to, intoB ? b : a, from).compute();
+		}
+	}
+
+	/**
+	 * кϲ: src[lo1, hi1)  src[lo2, hi2) ϲ dst д k ʼλ
+	 */
+	private static class IntMergeTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int[] src;
+		private final int lo1;
+		private final int hi1;
+		private final int lo2;
+		private final int hi2;
+		private final int[] dst;
+		private final int k;
+
+		IntMergeTask(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int k) {
+			this.src = src;
+			this.lo1 = lo1;
+			this.hi1 = hi1;
+			this.lo2 = lo2;
+			this.hi2 = hi2;
+			this.dst = dst;
+			this.k = k;
+		}
+
+		@Override
+		protected void compute() {
+			int n1 = hi1 - lo1;
+			int n2 = hi2 - lo2;
+			if (n1 + n2 <= PARALLEL_MERGE_THRESHOLD) {
+				gallopMerge(src, lo1, hi1, lo2, hi2, dst, k);
+				return;
+			}
+			int m1;
+			int m2;
+			if (n1 >= n2) {
+				//ߵмԪ, ұСĶǰ
+				m1 = (lo1 + hi1) >>> 1;
+				m2 = gallop(src, lo2, hi2, src[m1], false);
+			} else {
+				//ұߵмԪ, СڵĶǰ
+				m2 = (lo2 + hi2) >>> 1;
+				m1 = gallop(src, lo1, hi1, src[m2], true);
+			}
+			invokeAll(new IntMergeTask(src, lo1, m1, lo2, m2, dst, k),
+					new IntMergeTask(src, m1, hi1, m2, hi2, dst, k + (m1 - lo1) + (m2 - lo2)));
+		}
+	}
+
+	private static class SortTask<T> extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final T[] a;
+		private final T[] b;
+		private final int from;
+		private final int to;
+		private final Comparator<? super T> c;
+		private final boolean intoB;
+
+		SortTask(T[] a, T[] b, int from, int to, Comparator<? super T> c, boolean intoB) {
+			this.a = a;
+			this.b = b;
+			this.from = from;
+			this.to = to;
+			this.c = c;
+			this.intoB = intoB;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				naturalMergeSort(a, from, to, c, b);
+				if (intoB) {
+					System.arraycopy(a, from, b, from, to - from);
+				}
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new SortTask<>(a, b, from, mid, c, !intoB), new SortTask<>(a, b, mid, to, c, !intoB));
+			new MergeTask<>(intoB ? a : b, from, mid, mid, to, intoB ? b : a, from, c).compute();
+		}
+	}
+
+	private static class MergeTask<T> extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final T[] src;
+		private final int lo1;
+		private final int hi1;
+		private final int lo2;
+		private final int hi2;
+		private final T[] dst;
+		private final int k;
+		private final Comparator<? super T> c;
+
+		MergeTask(T[] src, int lo1, int hi1, int lo2, int hi2, T[] dst, int k, Comparator<? super T> c) {
+			this.src = src;
+			this.lo1 = lo1;
+			this.hi1 = hi1;
+			this.lo2 = lo2;
+			this.hi2 = hi2;
+			this.dst = dst;
+			this.k = k;
+			this.c = c;
+		}
+
+		@Override
+		protected void compute() {
+			int n1 = hi1 - lo1;
+			int n2 = hi2 - lo2;
+			if (n1 + n2 <= PARALLEL_MERGE_THRESHOLD) {
+				gallopMerge(src, lo1, hi1, lo2, hi2, dst, k, c);
+				return;
+			}
+			int m1;
+			int m2;
+			if (n1 >= n2) {
+				m1 = (lo1 + hi1) >>> 1;
+				m2 = gallop(src, lo2, hi2, src[m1], false, c);
+			} else {
+				m2 = (lo2 + hi2) >>> 1;
+				m1 = gallop(src, lo1, hi1, src[m2], true, c);
+			}
+			invokeAll(new MergeTask<>(src, lo1, m1, lo2, m2, dst, k, c),
+					new MergeTask<>(src, m1, hi1, m2, hi2, dst, k + (m1 - lo1) + (m2 - lo2), c));
+		}
+	}
 }
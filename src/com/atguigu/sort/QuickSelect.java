@@ -0,0 +1,180 @@
+package com.atguigu.sort;
+
+import java.util.Arrays;
+
+/**
+ * ѡ: ֻҪ k СС k  k ʱ, ðź
+ * ˵
+ * 1. select(ʡѡ, introselect):  IntroSort һ Hoare , Ƿֻ k ڵһ, һ߲,
+ *    ƽ n + n/2 + n/4 + ... = O(n)
+ * 2.  2*log2(n) ûҵ, ˵ֵһֱѡò, λλ(median-of-medians)ѡ:
+ *    ÿ 5 һȡλ, (ݹ)ȡЩλλ, ٱ 3/10 Ԫش󡢱 3/10 ԪС, Ҳ O(n)
+ * 3. partialSort:  select С k ǰ, ֻ k , O(n + klogk)
+ * 4. topK:  select  k , ٰ k ӴСƳ, O(n + klogk)
+ * 5. һһ(û)ʱ,  TopK(СΪ k С)
+ *
+ * 䶼ҿ [from, to), k ±( from )
+ */
+public class QuickSelect {
+
+	public static void main(String[] args) {
+		int[] arr = { -9, 78, 0, 23, -567, 70, -1, 900, 4561 };
+		int[] copy = arr.clone();
+		System.out.println(" 3 С=" + select(copy, 2));
+		copy = arr.clone();
+		partialSort(copy, 4);
+		System.out.println("С 4 ź=" + Arrays.toString(Arrays.copyOf(copy, 4)));
+		System.out.println(" 3 =" + Arrays.toString(topK(arr.clone(), 3)));
+
+		// 5000 ȡǰ 100, Ա
+		int n = 50000000;
+		int[] scores = new int[n];
+		for (int i = 0; i < n; i++) {
+			scores[i] = (int) (Math.random() * Integer.MAX_VALUE);
+		}
+		int[] work = scores.clone();
+		long start = System.currentTimeMillis();
+		int[] top = topK(work, 100);
+		System.out.println("topK ʱ=" + (System.currentTimeMillis() - start) + "ms");
+
+		start = System.currentTimeMillis();
+		TopK stream = new TopK(100);
+		for (int score : scores) {
+			stream.offer(score);
+		}
+		int[] streamTop = stream.toSortedArray();
+		System.out.println("TopK(С) ʱ=" + (System.currentTimeMillis() - start) + "ms");
+
+		work = scores.clone();
+		start = System.currentTimeMillis();
+		QuickSort.quickSort(work, 0, n - 1);
+		System.out.println(" ʱ=" + (System.currentTimeMillis() - start) + "ms");
+		System.out.println("һ=" + (Arrays.equals(top, streamTop) && top[99] == work[n - 100]));
+	}
+
+	/**
+	 * ҵ k С(k  0 ʼ), ᱻ
+	 */
+	public static int select(int[] arr, int k) {
+		return select(arr, 0, arr.length, k);
+	}
+
+	/**
+	 *  [from, to) е k - from С, ᱻ:
+	 * ɺ arr[k] źӦ k , [from, k) е <= arr[k], (k, to) е >= arr[k]
+	 * @param arr 
+	 * @param from ʼ±()
+	 * @param to ±()
+	 * @param k Ҫҵ±, from <= k < to
+	 * @return arr[k]
+	 */
+	public static int select(int[] arr, int from, int to, int k) {
+		IntroSort.checkRange(arr.length, from, to);
+		if (k < from || k >= to) {
+			throw new ArrayIndexOutOfBoundsException("k=" + k + ", from=" + from + ", to=" + to);
+		}
+		introSelect(arr, from, to, k);
+		return arr[k];
+	}
+
+	/**
+	 * : ɺ arr[0, k) С k , Ѿź, ˳ȷ
+	 */
+	public static void partialSort(int[] arr, int k) {
+		partialSort(arr, 0, arr.length, k);
+	}
+
+	/**
+	 * : ɺ [from, from + k)  [from, to) С k , Ѿź
+	 * @param k 0 <= k <= to - from
+	 */
+	public static void partialSort(int[] arr, int from, int to, int k) {
+		IntroSort.checkRange(arr.length, from, to);
+		if (k < 0 || k > to - from) {
+			throw new IllegalArgumentException("k=" + k + ", 䳤=" + (to - from));
+		}
+		if (k == 0) {
+			return;
+		}
+		// k Сķŵ from + k - 1, ǰĶ
+		introSelect(arr, from, to, from + k - 1);
+		IntroSort.sort(arr, from, from + k - 1);
+	}
+
+	/**
+	 *  k , ӴС; arr ᱻ( k ĩβ)
+	 * @param k 0 <= k <= arr.length
+	 */
+	public static int[] topK(int[] arr, int k) {
+		if (k < 0 || k > arr.length) {
+			throw new IllegalArgumentException("k=" + k + ", 鳤=" + arr.length);
+		}
+		int n = arr.length;
+		if (k == 0) {
+			return new int[0];
+		}
+		// n - k С(Ҳǵ k )ŵ n - k, ĶС
+		introSelect(arr, 0, n, n - k);
+		int[] top = new int[k];
+		for (int i = 0; i < k; i++) {
+			top[i] = arr[n - 1 - i];
+		}
+		//ӴС: ȴС, ٵ
+		IntroSort.sort(top, 0, k);
+		for (int i = 0, j = k - 1; i < j; i++, j--) {
+			int temp = top[i];
+			top[i] = top[j];
+			top[j] = temp;
+		}
+		return top;
+	}
+
+	/**
+	 * ʡѡ: źӦ k ŵ k
+	 */
+	static void introSelect(int[] arr, int from, int to, int k) {
+		//˼·
+		//1.  [from, mid) <= [mid, to),  k ı߾ֻı, õݹ
+		//2. ˸λλѡ, ԺҲһֱ
+		//3. СʱֱӲ
+		int depth = IntroSort.depthLimit(to - from);
+		while (to - from > IntroSort.INSERTION_THRESHOLD) {
+			int mid;
+			if (depth > 0) {
+				depth--;
+				mid = IntroSort.partition(arr, from, to);
+			} else {
+				mid = IntroSort.partition(arr, from, to, medianOfMedians(arr, from, to));
+			}
+			if (k < mid) {
+				to = mid;
+			} else {
+				from = mid;
+			}
+		}
+		IntroSort.insertionSort(arr, from, to);
+	}
+
+	/**
+	 * λλ, ص [from, to) еĳԪ(Hoare Ҫֵ)
+	 * ÿλǰ
+	 */
+	static int medianOfMedians(int[] arr, int from, int to) {
+		//˼·
+		//1. ÿ 5 һ, ڲ, λ from +  λ
+		//2. ǰЩλ introSelect λ(λĸֻ n/5, ܵĹ O(n))
+		int groups = 0;
+		for (int start = from; start < to; start += 5) {
+			int end = Math.min(start + 5, to);
+			IntroSort.insertionSort(arr, start, end);
+			int median = start + (end - start - 1) / 2;
+			int temp = arr[median];
+			arr[median] = arr[from + groups];
+			arr[from + groups] = temp;
+			groups++;
+		}
+		int k = from + (groups - 1) / 2;
+		introSelect(arr, from, from + groups, k);
+		return arr[k];
+	}
+}
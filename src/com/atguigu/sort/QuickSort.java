@@ -3,6 +3,7 @@ package com.atguigu.sort;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.concurrent.ForkJoinPool;
 
 public class QuickSort {
 
@@ -30,7 +31,25 @@ public class QuickSort {
 		//System.out.println("arr=" + Arrays.toString(arr));
 	}
 
+	/**
+	 *  [left, right], ˶
+	 * ʵ IntroSort : /ֵѡ, С, ݹ̫ö, ʱ ForkJoinPool 
+	 * @param arr Ҫ
+	 * @param left ±
+	 * @param right ±
+	 */
 	public static void quickSort(int[] arr,int left, int right) {
+		if (left >= right) {
+			return;
+		}
+		IntroSort.parallelSort(arr, left, right + 1, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * д: ̶ȡмԪֵ, ߶ݹ
+	 * 򡢴ظֵ֮ݻ˻, ܴʱջ, Ա
+	 */
+	public static void simpleQuickSort(int[] arr,int left, int right) {
 		int l = left; //±
 		int r = right; //±
 		//pivot ֵ
@@ -75,11 +94,11 @@ public class QuickSort {
 		}
 		//ݹ
 		if(left < r) {
-			quickSort(arr, left, r);
+			simpleQuickSort(arr, left, r);
 		}
 		//ҵݹ
 		if(right > l) {
-			quickSort(arr, l, right);
+			simpleQuickSort(arr, l, right);
 		}
 		
 		
@@ -1,15 +1,53 @@
 package com.atguigu.sort;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
+/**
+ * 
+ * ˵
+ * 1. simpleRadixSort д: ʮ, 10 Ͱÿԭһ, ڴԭ 11 , ҲŸ
+ * 2. radixSort / lsdRadixSort ǰֽڵ LSD(ӵλλ) :
+ *    (1) ÿһְһ""(int  8 λ, long  11 λ): ÿֳּ, ǰ׺͵õÿֵʼλ,
+ *        ٰԭ˳ᵽӦλ, ÿһֶȶ
+ *    (2) ֻҪһԭһʱ, ص, Ҫ 10 Ͱ
+ *    (3) ִεļڵһɨʱһ; ĳһԪصֶһʱһֱ
+ *    (4) : ߵְѷλȡ, ŵǰ, ˳úзĴСһ
+ * 3. 鰴 int  long : ȰѼȡ, üͶһ, ֻȡһ
+ * 4. parallelRadixSort ǲе MSD(Ӹλλ) , ŲĴ:
+ *    (1) ֳɶ, ÿ߳Լһֽڵļ
+ *    (2)  (ֽ, ) ˳ǰ׺, ÿһξ֪ԼÿֽڵԪظ÷ŵ, ͬʱᵽʱ, ͻ
+ *    (3) ֽڷֳ 256 Ͱ, ͰͰ֮Ѿ, ÿͰ ForkJoinPool :
+ *        ͰܴͰһֽڼ, Ͱŵý˾ LSD ʣµֽ, СͰò
+ */
 public class RadixSort {
 
+	/** int ÿ 8 λ, һ 4  */
+	private static final int INT_BITS = 8;
+	/** long ÿ 11 λ, һ 6 (һ 9 λ), ÿ 8 λ,  2048 Ҳŵý */
+	private static final int LONG_BITS = 11;
+	private static final int LONG_PASSES = 6;
+
+	/** ôԪزò MSD , Сŵý, ֱ LSD  */
+	public static final int PARALLEL_THRESHOLD = 1 << 20;
+	/** MSD ֳͰȾͲٷ,  LSD ʣµֽ */
+	private static final int MSD_LEAF_SIZE = 1 << 16;
+	/** Ͱò */
+	private static final int INSERTION_SIZE = 64;
+
 	public static void main(String[] args) {
-		int arr[] = { 53, 3, 542, 748, 14, 214};
+		int arr[] = { 53, 3, 542, 748, 14, 214, -9, -100, Integer.MIN_VALUE, Integer.MAX_VALUE};
 		
-		// 80000000 * 11 * 4 / 1024 / 1024 / 1024 =3.3G 
+		// ԭд: 80000000 * 11 * 4 / 1024 / 1024 / 1024 =3.3G 
+		// ֻҪһʱ: 80000000 * 2 * 4 / 1024 / 1024 / 1024 = 0.6G
 //		int[] arr = new int[8000000];
 //		for (int i = 0; i < 8000000; i++) {
 //			arr[i] = (int) (Math.random() * 8000000); // һ[0, 8000000) 
@@ -30,8 +68,610 @@ public class RadixSort {
 		
 	}
 
-	//򷽷
+	/**
+	 * , ָ֧, ֻһʱ
+	 */
 	public static void radixSort(int[] arr) {
+		lsdRadixSort(arr);
+	}
+
+	public static void lsdRadixSort(int[] arr) {
+		lsdRadixSort(arr, 0, arr.length, new int[arr.length]);
+	}
+
+	/**
+	 * LSD  [from, to), ÿ 8 λ
+	 * @param arr Ҫ
+	 * @param from ʼ±()
+	 * @param to ±()
+	 * @param scratch ʱ,  to - from, ظʹ
+	 */
+	public static void lsdRadixSort(int[] arr, int from, int to, int[] scratch) {
+		IntroSort.checkRange(arr.length, from, to);
+		int n = to - from;
+		if (n < 2) {
+			return;
+		}
+		if (scratch.length < n) {
+			throw new IllegalArgumentException("ʱ̫С: " + scratch.length + " < " + n);
+		}
+		//1. һɨÿһֵļ
+		int[][] counts = new int[4][1 << INT_BITS];
+		for (int i = from; i < to; i++) {
+			int v = arr[i];
+			counts[0][v & 0xff]++;
+			counts[1][(v >>> 8) & 0xff]++;
+			counts[2][(v >>> 16) & 0xff]++;
+			counts[3][(v >>> 24) ^ 0x80]++;
+		}
+		//2. ÿһ: ǰ׺͵õʼλ, ٰ src еԪذ˳ᵽ dst
+		int[] src = arr;
+		int srcOff = from;
+		int[] dst = scratch;
+		int dstOff = 0;
+		for (int pass = 0; pass < 4; pass++) {
+			int[] count = counts[pass];
+			int shift = pass * INT_BITS;
+			int flip = pass == 3 ? 0x80 : 0; // ߵַλȡ
+			if (count[((src[srcOff] >>> shift) & 0xff) ^ flip] == n) {
+				continue; // һԪصֶһ
+			}
+			toOffsets(count);
+			for (int i = 0; i < n; i++) {
+				int v = src[srcOff + i];
+				dst[dstOff + count[((v >>> shift) & 0xff) ^ flip]++] = v;
+			}
+			int[] t = src;
+			src = dst;
+			dst = t;
+			int o = srcOff;
+			srcOff = dstOff;
+			dstOff = o;
+		}
+		//3. ʱĻƻ
+		if (src != arr) {
+			System.arraycopy(src, srcOff, arr, from, n);
+		}
+	}
+
+	public static void lsdRadixSort(long[] arr) {
+		lsdRadixSort(arr, 0, arr.length, new long[arr.length]);
+	}
+
+	/**
+	 * LSD  [from, to), ÿ 11 λ
+	 * @param scratch ʱ,  to - from, ظʹ
+	 */
+	public static void lsdRadixSort(long[] arr, int from, int to, long[] scratch) {
+		IntroSort.checkRange(arr.length, from, to);
+		int n = to - from;
+		if (n < 2) {
+			return;
+		}
+		if (scratch.length < n) {
+			throw new IllegalArgumentException("ʱ̫С: " + scratch.length + " < " + n);
+		}
+		int[][] counts = new int[LONG_PASSES][1 << LONG_BITS];
+		for (int i = from; i < to; i++) {
+			long v = arr[i];
+			for (int pass = 0; pass < LONG_PASSES; pass++) {
+				counts[pass][longDigit(v, pass)]++;
+			}
+		}
+		long[] src = arr;
+		int srcOff = from;
+		long[] dst = scratch;
+		int dstOff = 0;
+		for (int pass = 0; pass < LONG_PASSES; pass++) {
+			int[] count = counts[pass];
+			if (count[longDigit(src[srcOff], pass)] == n) {
+				continue;
+			}
+			toOffsets(count);
+			for (int i = 0; i < n; i++) {
+				long v = src[srcOff + i];
+				dst[dstOff + count[longDigit(v, pass)]++] = v;
+			}
+			long[] t = src;
+			src = dst;
+			dst = t;
+			int o = srcOff;
+			srcOff = dstOff;
+			dstOff = o;
+		}
+		if (src != arr) {
+			System.arraycopy(src, srcOff, arr, from, n);
+		}
+	}
+
+	/**
+	 *  int , ȶ
+	 * @param keyExtractor ȡĺ, ÿԪֻһ
+	 */
+	public static <T> void lsdRadixSortByInt(T[] arr, ToIntFunction<? super T> keyExtractor) {
+		lsdRadixSortByInt(arr, 0, arr.length, keyExtractor);
+	}
+
+	/**
+	 *  int  [from, to), ȶ
+	 * @param keyExtractor ȡĺ, ÿԪֻһ
+	 */
+	public static <T> void lsdRadixSortByInt(T[] arr, int from, int to, ToIntFunction<? super T> keyExtractor) {
+		IntroSort.checkRange(arr.length, from, to);
+		int n = to - from;
+		if (n < 2) {
+			return;
+		}
+		int[] keys = new int[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = keyExtractor.applyAsInt(arr[from + i]);
+		}
+		int[][] counts = new int[4][1 << INT_BITS];
+		for (int v : keys) {
+			counts[0][v & 0xff]++;
+			counts[1][(v >>> 8) & 0xff]++;
+			counts[2][(v >>> 16) & 0xff]++;
+			counts[3][(v >>> 24) ^ 0x80]++;
+		}
+		int[] srcKeys = keys;
+		int[] dstKeys = new int[n];
+		//src һʼ arr  [from, to), ʱֻҪ n , ± srcOff/dstOff 
+		Object[] src = arr;
+		int srcOff = from;
+		Object[] dst = new Object[n];
+		int dstOff = 0;
+		for (int pass = 0; pass < 4; pass++) {
+			int[] count = counts[pass];
+			int shift = pass * INT_BITS;
+			int flip = pass == 3 ? 0x80 : 0;
+			if (count[((srcKeys[0] >>> shift) & 0xff) ^ flip] == n) {
+				continue;
+			}
+			toOffsets(count);
+			for (int i = 0; i < n; i++) {
+				int v = srcKeys[i];
+				int pos = count[((v >>> shift) & 0xff) ^ flip]++;
+				dstKeys[pos] = v;
+				dst[dstOff + pos] = src[srcOff + i];
+			}
+			int[] tk = srcKeys;
+			srcKeys = dstKeys;
+			dstKeys = tk;
+			Object[] t = src;
+			src = dst;
+			dst = t;
+			int o = srcOff;
+			srcOff = dstOff;
+			dstOff = o;
+		}
+		if (src != arr) {
+			System.arraycopy(src, srcOff, arr, from, n);
+		}
+	}
+
+	/**
+	 *  long , ȶ
+	 * @param keyExtractor ȡĺ, ÿԪֻһ
+	 */
+	public static <T> void lsdRadixSortByLong(T[] arr, ToLongFunction<? super T> keyExtractor) {
+		lsdRadixSortByLong(arr, 0, arr.length, keyExtractor);
+	}
+
+	/**
+	 *  long  [from, to), ȶ
+	 * @param keyExtractor ȡĺ, ÿԪֻһ
+	 */
+	public static <T> void lsdRadixSortByLong(T[] arr, int from, int to, ToLongFunction<? super T> keyExtractor) {
+		IntroSort.checkRange(arr.length, from, to);
+		int n = to - from;
+		if (n < 2) {
+			return;
+		}
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = keyExtractor.applyAsLong(arr[from + i]);
+		}
+		int[][] counts = new int[LONG_PASSES][1 << LONG_BITS];
+		for (long v : keys) {
+			for (int pass = 0; pass < LONG_PASSES; pass++) {
+				counts[pass][longDigit(v, pass)]++;
+			}
+		}
+		long[] srcKeys = keys;
+		long[] dstKeys = new long[n];
+		//src һʼ arr  [from, to), ʱֻҪ n , ± srcOff/dstOff 
+		Object[] src = arr;
+		int srcOff = from;
+		Object[] dst = new Object[n];
+		int dstOff = 0;
+		for (int pass = 0; pass < LONG_PASSES; pass++) {
+			int[] count = counts[pass];
+			if (count[longDigit(srcKeys[0], pass)] == n) {
+				continue;
+			}
+			toOffsets(count);
+			for (int i = 0; i < n; i++) {
+				long v = srcKeys[i];
+				int pos = count[longDigit(v, pass)]++;
+				dstKeys[pos] = v;
+				dst[dstOff + pos] = src[srcOff + i];
+			}
+			long[] tk = srcKeys;
+			srcKeys = dstKeys;
+			dstKeys = tk;
+			Object[] t = src;
+			src = dst;
+			dst = t;
+			int o = srcOff;
+			srcOff = dstOff;
+			dstOff = o;
+		}
+		if (src != arr) {
+			System.arraycopy(src, srcOff, arr, from, n);
+		}
+	}
+
+	/**
+	 * long  pass ֵ, һߵ 9 λ, λȡ
+	 */
+	private static int longDigit(long v, int pass) {
+		if (pass == LONG_PASSES - 1) {
+			return (int) (v >>> (LONG_BITS * pass)) ^ 0x100;
+		}
+		return (int) (v >>> (LONG_BITS * pass)) & ((1 << LONG_BITS) - 1);
+	}
+
+	/**
+	 * ù ForkJoinPool 
+	 */
+	public static void parallelRadixSort(int[] arr) {
+		parallelRadixSort(arr, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 *  MSD , 鲻 pool ֻһ߳ʱǵ̵߳ LSD 
+	 * @param pool е̳߳
+	 */
+	public static void parallelRadixSort(int[] arr, ForkJoinPool pool) {
+		parallelRadixSort(arr, 0, arr.length, pool);
+	}
+
+	/**
+	 *  [from, to)
+	 * ʱ arr ͬ±,  to
+	 */
+	public static void parallelRadixSort(int[] arr, int from, int to, ForkJoinPool pool) {
+		IntroSort.checkRange(arr.length, from, to);
+		int n = to - from;
+		if (n <= PARALLEL_THRESHOLD || pool.getParallelism() <= 1) {
+			lsdRadixSort(arr, from, to, new int[n]);
+			return;
+		}
+		pool.invoke(new IntMsdTask(arr, arr, new int[to], from, to, 3, pool.getParallelism() * 4));
+	}
+
+	public static void parallelRadixSort(long[] arr) {
+		parallelRadixSort(arr, ForkJoinPool.commonPool());
+	}
+
+	public static void parallelRadixSort(long[] arr, ForkJoinPool pool) {
+		parallelRadixSort(arr, 0, arr.length, pool);
+	}
+
+	public static void parallelRadixSort(long[] arr, int from, int to, ForkJoinPool pool) {
+		IntroSort.checkRange(arr.length, from, to);
+		int n = to - from;
+		if (n <= PARALLEL_THRESHOLD || pool.getParallelism() <= 1) {
+			lsdRadixSort(arr, from, to, new long[n]);
+			return;
+		}
+		pool.invoke(new LongMsdTask(arr, arr, new long[to], from, to, 7, pool.getParallelism() * 4));
+	}
+
+	/**
+	 * int ĵ digit ֽ, ֽڷλȡ
+	 */
+	private static int byteOf(int v, int digit) {
+		return ((v >>> (digit << 3)) & 0xff) ^ (digit == 3 ? 0x80 : 0);
+	}
+
+	private static int byteOf(long v, int digit) {
+		return ((int) (v >>> (digit << 3)) & 0xff) ^ (digit == 7 ? 0x80 : 0);
+	}
+
+	/**
+	 *  digit ֽڰ src[from, to) ֵ dst  256 Ͱ, ֳ chunks βмͰ
+	 * @return ÿͰʼ±, һ to
+	 */
+	private static int[] scatter(int[] src, int[] dst, int from, int to, int digit, int chunks) {
+		int chunkSize = (to - from + chunks - 1) / chunks;
+		chunks = (to - from + chunkSize - 1) / chunkSize;
+		int[][] counts = new int[chunks][256];
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+		for (int c = 0; c < chunks; c++) {
+			final int[] count = counts[c];
+			final int lo = from + c * chunkSize;
+			final int hi = Math.min(to, lo + chunkSize);
+			tasks.add(ForkJoinTask.adapt(() -> {
+				for (int i = lo; i < hi; i++) {
+					count[byteOf(src[i], digit)]++;
+				}
+			}));
+		}
+		ForkJoinTask.invokeAll(tasks);
+		int[] start = cursors(counts, from, to);
+		tasks.clear();
+		for (int c = 0; c < chunks; c++) {
+			final int[] cursor = counts[c];
+			final int lo = from + c * chunkSize;
+			final int hi = Math.min(to, lo + chunkSize);
+			tasks.add(ForkJoinTask.adapt(() -> {
+				for (int i = lo; i < hi; i++) {
+					int v = src[i];
+					dst[cursor[byteOf(v, digit)]++] = v;
+				}
+			}));
+		}
+		ForkJoinTask.invokeAll(tasks);
+		return start;
+	}
+
+	private static int[] scatter(long[] src, long[] dst, int from, int to, int digit, int chunks) {
+		int chunkSize = (to - from + chunks - 1) / chunks;
+		chunks = (to - from + chunkSize - 1) / chunkSize;
+		int[][] counts = new int[chunks][256];
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+		for (int c = 0; c < chunks; c++) {
+			final int[] count = counts[c];
+			final int lo = from + c * chunkSize;
+			final int hi = Math.min(to, lo + chunkSize);
+			tasks.add(ForkJoinTask.adapt(() -> {
+				for (int i = lo; i < hi; i++) {
+					count[byteOf(src[i], digit)]++;
+				}
+			}));
+		}
+		ForkJoinTask.invokeAll(tasks);
+		int[] start = cursors(counts, from, to);
+		tasks.clear();
+		for (int c = 0; c < chunks; c++) {
+			final int[] cursor = counts[c];
+			final int lo = from + c * chunkSize;
+			final int hi = Math.min(to, lo + chunkSize);
+			tasks.add(ForkJoinTask.adapt(() -> {
+				for (int i = lo; i < hi; i++) {
+					long v = src[i];
+					dst[cursor[byteOf(v, digit)]++] = v;
+				}
+			}));
+		}
+		ForkJoinTask.invokeAll(tasks);
+		return start;
+	}
+
+	/**
+	 * ÿεļһÿֽڵдλ: Ȱֽ, ͬһֽٰε˳, ȶ
+	 * @return ÿͰʼ±, һ to
+	 */
+	private static int[] cursors(int[][] counts, int from, int to) {
+		int[] start = new int[257];
+		int pos = from;
+		for (int d = 0; d < 256; d++) {
+			start[d] = pos;
+			for (int[] count : counts) {
+				int c = count[d];
+				count[d] = pos;
+				pos += c;
+			}
+		}
+		start[256] = to;
+		return start;
+	}
+
+	/**
+	 * LSD  [from, to) ĵ 0 ~ maxDigit ֽ,  src ,  dst ͬһص
+	 * @return Ƿ dst 
+	 */
+	private static boolean lsdBytes(int[] src, int[] dst, int from, int to, int maxDigit) {
+		int n = to - from;
+		int[][] counts = new int[maxDigit + 1][256];
+		for (int i = from; i < to; i++) {
+			int v = src[i];
+			for (int digit = 0; digit <= maxDigit; digit++) {
+				counts[digit][byteOf(v, digit)]++;
+			}
+		}
+		boolean inDst = false;
+		for (int digit = 0; digit <= maxDigit; digit++) {
+			int[] count = counts[digit];
+			if (count[byteOf(src[from], digit)] == n) {
+				continue;
+			}
+			int sum = from;
+			for (int d = 0; d < 256; d++) {
+				int c = count[d];
+				count[d] = sum;
+				sum += c;
+			}
+			for (int i = from; i < to; i++) {
+				int v = src[i];
+				dst[count[byteOf(v, digit)]++] = v;
+			}
+			int[] t = src;
+			src = dst;
+			dst = t;
+			inDst = !inDst;
+		}
+		return inDst;
+	}
+
+	private static boolean lsdBytes(long[] src, long[] dst, int from, int to, int maxDigit) {
+		int n = to - from;
+		int[][] counts = new int[maxDigit + 1][256];
+		for (int i = from; i < to; i++) {
+			long v = src[i];
+			for (int digit = 0; digit <= maxDigit; digit++) {
+				counts[digit][byteOf(v, digit)]++;
+			}
+		}
+		boolean inDst = false;
+		for (int digit = 0; digit <= maxDigit; digit++) {
+			int[] count = counts[digit];
+			if (count[byteOf(src[from], digit)] == n) {
+				continue;
+			}
+			int sum = from;
+			for (int d = 0; d < 256; d++) {
+				int c = count[d];
+				count[d] = sum;
+				sum += c;
+			}
+			for (int i = from; i < to; i++) {
+				long v = src[i];
+				dst[count[byteOf(v, digit)]++] = v;
+			}
+			long[] t = src;
+			src = dst;
+			dst = t;
+			inDst = !inDst;
+		}
+		return inDst;
+	}
+
+	private static void insertionSort(long[] arr, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			long insertVal = arr[i];
+			int j = i - 1;
+			while (j >= from && arr[j] > insertVal) {
+				arr[j + 1] = arr[j];
+				j--;
+			}
+			arr[j + 1] = insertVal;
+		}
+	}
+
+	/**
+	 *  MSD һͰ: [from, to)  src ,  digit ߵֽڶͬ, źúҪŻ arr
+	 */
+	private static class IntMsdTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int[] arr; // ս
+		private final int[] src; // ڵ
+		private final int[] dst; // һ
+		private final int from;
+		private final int to;
+		private final int digit; // ûŵֽ
+		private final int chunks; // Ͱʱּβ
+
+		IntMsdTask(int[] arr, int[] src, int[] dst, int from, int to, int digit, int chunks) {
+			this.arr = arr;
+			this.src = src;
+			this.dst = dst;
+			this.from = from;
+			this.to = to;
+			this.digit = digit;
+			this.chunks = chunks;
+		}
+
+		@Override
+		protected void compute() {
+			int n = to - from;
+			if (n <= INSERTION_SIZE) {
+				if (src != arr) {
+					System.arraycopy(src, from, arr, from, n);
+				}
+				InsertSort.sortSmall(arr, from, to);
+				return;
+			}
+			if (n <= MSD_LEAF_SIZE || digit == 0) {
+				int[] result = lsdBytes(src, dst, from, to, digit) ? dst : src;
+				if (result != arr) {
+					System.arraycopy(result, from, arr, from, n);
+				}
+				return;
+			}
+			int[] start = scatter(src, dst, from, to, digit, chunks);
+			List<IntMsdTask> buckets = new ArrayList<>();
+			for (int d = 0; d < 256; d++) {
+				int size = start[d + 1] - start[d];
+				if (size > 0) {
+					//ͰͰʱֶβ, ݺƫһͰʱҲ϶߳
+					int childChunks = (int) Math.max(1, (long) chunks * size / n);
+					buckets.add(new IntMsdTask(arr, dst, src, start[d], start[d + 1], digit - 1, childChunks));
+				}
+			}
+			invokeAll(buckets);
+		}
+	}
+
+	private static class LongMsdTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long[] arr;
+		private final long[] src;
+		private final long[] dst;
+		private final int from;
+		private final int to;
+		private final int digit;
+		private final int chunks;
+
+		LongMsdTask(long[] arr, long[] src, long[] dst, int from, int to, int digit, int chunks) {
+			this.arr = arr;
+			this.src = src;
+			this.dst = dst;
+			this.from = from;
+			this.to = to;
+			this.digit = digit;
+			this.chunks = chunks;
+		}
+
+		@Override
+		protected void compute() {
+			int n = to - from;
+			if (n <= INSERTION_SIZE) {
+				if (src != arr) {
+					System.arraycopy(src, from, arr, from, n);
+				}
+				insertionSort(arr, from, to);
+				return;
+			}
+			if (n <= MSD_LEAF_SIZE || digit == 0) {
+				long[] result = lsdBytes(src, dst, from, to, digit) ? dst : src;
+				if (result != arr) {
+					System.arraycopy(result, from, arr, from, n);
+				}
+				return;
+			}
+			int[] start = scatter(src, dst, from, to, digit, chunks);
+			List<LongMsdTask> buckets = new ArrayList<>();
+			for (int d = 0; d < 256; d++) {
+				int size = start[d + 1] - start[d];
+				if (size > 0) {
+					int childChunks = (int) Math.max(1, (long) chunks * size / n);
+					buckets.add(new LongMsdTask(arr, dst, src, start[d], start[d + 1], digit - 1, childChunks));
+				}
+			}
+			invokeAll(buckets);
+		}
+	}
+
+	/**
+	 * ʼλ(ǰ׺): count[d] =  d Сһ˶ٴ
+	 */
+	private static void toOffsets(int[] count) {
+		int sum = 0;
+		for (int d = 0; d < count.length; d++) {
+			int c = count[d];
+			count[d] = sum;
+			sum += c;
+		}
+	}
+
+	//򷽷, ʮд, ָ֧
+	public static void simpleRadixSort(int[] arr) {
 		
 		//ǰƵ̣ǿԵõյĻ
 		
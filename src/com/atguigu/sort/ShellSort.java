@@ -1,11 +1,120 @@
 package com.atguigu.sort;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+/**
+ * ϣ
+ * ˵
+ * 1. shellSort() / shellSort2(λ) д, ÿμ n/2, n/4 ... 1,
+ *    ֮й, λúżλõԪֱһֲŻȽ,  O(n^2)
+ * 2. Gaps ǼָõĲ, shellSort(arr, from, to, gaps) λ:
+ *    (1) CIURA: 1, 4, 10, 23, 57, 132, 301, 701, 1750 ʵȽϴٵ, İ 2.25 
+ *    (2) TOKUDA: ceil((9^k - 4^k) / (5 * 4^(k-1))), Լ 2.25 , ǹʽ, ܴʱ Ciura ɿ
+ *    (3) SEDGEWICK: 1, 4^k + 3 * 2^(k-1) + 1, Լ 4 ,  O(n^(4/3)); , Ƚֱ(int)ʱ
+ *    (4) Gaps.select Զѡ: Ƚϱ() SEDGEWICK, ȽϹ(Comparator)ñȽϴٵ CIURA / TOKUDA
+ * 3. parallelShellSort: Ϊ h һ, ʵ h ɵ(± i, i + h, i + 2h ...),
+ *    ʱЩֳɼ齻 ForkJoinPool ͬʱ; Ϊ˻ǰ˳ڴ, ÿһһеɨ(ÿ h ԪԼһ)
+ *    С̫, Ͱ˳ʣµļ
+ * 4. ȫԭ, õݹ, Ҫռ
+ */
 public class ShellSort {
 
+	/** ôԪزŲ */
+	public static final int PARALLEL_THRESHOLD = 1 << 16;
+	/** СֵһֲŲ, С̫, ֲ */
+	private static final int PARALLEL_MIN_GAP = 1024;
+	/** ÿٸô, ÿԼһռһ, дͬһ */
+	private static final int MIN_CHAINS_PER_TASK = 64;
+
+	/**
+	 * ϣĲ
+	 */
+	public enum Gaps {
+		/** n/2, n/4 ... 1,  shellSort2 õ */
+		HALVING,
+		CIURA,
+		TOKUDA,
+		SEDGEWICK;
+
+		/** Ciura ʵĲ, Ĳ 2.25  */
+		private static final int[] CIURA_GAPS = { 1, 4, 10, 23, 57, 132, 301, 701, 1750 };
+		/** ȽϹʱ,  CIURA(ʵķΧ), ٴ TOKUDA */
+		private static final int CIURA_MAX_SIZE = 4 * 1750;
+
+		/**
+		 * Ϊ n ҪõĲ, ӴС, һ 1
+		 * @param n 䳤
+		 */
+		public int[] gaps(int n) {
+			//˼·
+			//1. С,  long , 
+			//2. ֻҪ n СĲ(С n һʲôҲ), 1 Ҫ
+			//3. 󵹹
+			List<Long> asc = new ArrayList<>();
+			asc.add(1L);
+			switch (this) {
+			case HALVING:
+				for (long gap = n / 2; gap > 1; gap /= 2) {
+					asc.add(1, gap);
+				}
+				break;
+			case CIURA:
+				for (int i = 1; i < CIURA_GAPS.length && CIURA_GAPS[i] < n; i++) {
+					asc.add((long) CIURA_GAPS[i]);
+				}
+				for (long gap = (long) (CIURA_GAPS[CIURA_GAPS.length - 1] * 2.25); gap < n; gap = (long) (gap * 2.25)) {
+					asc.add(gap);
+				}
+				break;
+			case TOKUDA:
+				// 9^k ܿͳ long ,  double , ֻ int Χ, ȹ
+				for (int k = 2;; k++) {
+					long gap = (long) Math.ceil((Math.pow(9, k) - Math.pow(4, k)) / (5 * Math.pow(4, k - 1)));
+					if (gap >= n) {
+						break;
+					}
+					asc.add(gap);
+				}
+				break;
+			case SEDGEWICK:
+				for (int k = 1;; k++) {
+					long gap = (1L << (2 * k)) + 3 * (1L << (k - 1)) + 1;
+					if (gap >= n) {
+						break;
+					}
+					asc.add(gap);
+				}
+				break;
+			}
+			int[] gaps = new int[asc.size()];
+			for (int i = 0; i < gaps.length; i++) {
+				gaps[i] = (int) (long) asc.get(gaps.length - 1 - i);
+			}
+			return gaps;
+		}
+
+		/**
+		 * ȺͱȽϵĴԶѡ񲽳
+		 * @param n 䳤
+		 * @param expensiveCompare ȽǲǺܹ(Comparator Ƚ϶ʱ true, Ƚϻ false)
+		 */
+		public static Gaps select(int n, boolean expensiveCompare) {
+			//˵
+			//1. Ƚϱʱ, ʱҪɨ, SEDGEWICK Լ 4 , ֻ CIURA һһ, ʵ int ֳȶ
+			//2. ȽϹʱ, ʱҪǱȽϴ, CIURA ʵķΧڱȽ, ٴùʽ TOKUDA
+			if (!expensiveCompare) {
+				return SEDGEWICK;
+			}
+			return n <= CIURA_MAX_SIZE ? CIURA : TOKUDA;
+		}
+	}
+
 	public static void main(String[] args) {
 		//int[] arr = { 8, 9, 1, 7, 2, 3, 5, 4, 6, 0 };
 		
@@ -29,6 +138,25 @@ public class ShellSort {
 		System.out.println("ǰʱ=" + date2Str);
 		
 		//System.out.println(Arrays.toString(arr));
+
+		// ͬеĶԱ: ͬݸһ
+		int[] data = new int[8000000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (int) (Math.random() * 8000000);
+		}
+		int[] expected = data.clone();
+		Arrays.sort(expected);
+		for (Gaps gaps : Gaps.values()) {
+			int[] copy = data.clone();
+			long start = System.currentTimeMillis();
+			shellSort(copy, 0, copy.length, gaps);
+			System.out.println(gaps + "  " + Arrays.toString(Arrays.copyOf(gaps.gaps(copy.length), 5)) + "... ʱ="
+					+ (System.currentTimeMillis() - start) + "ms, ȷ=" + Arrays.equals(copy, expected));
+		}
+		int[] copy = data.clone();
+		long start = System.currentTimeMillis();
+		parallelShellSort(copy);
+		System.out.println("ϣ ʱ=" + (System.currentTimeMillis() - start) + "ms, ȷ=" + Arrays.equals(copy, expected));
 	}
 
 	// ʹƵķʽдϣ
@@ -130,4 +258,93 @@ public class ShellSort {
 		}
 	}
 
+	/**
+	 * ϣ, Զѡ񲽳
+	 */
+	public static void adaptiveShellSort(int[] arr) {
+		shellSort(arr, 0, arr.length, Gaps.select(arr.length, false));
+	}
+
+	/**
+	 * Ĳж [from, to) ϣ(λ)
+	 * @param arr 
+	 * @param from ʼ±()
+	 * @param to ±()
+	 * @param gaps 
+	 */
+	public static void shellSort(int[] arr, int from, int to, Gaps gaps) {
+		IntroSort.checkRange(arr.length, from, to);
+		for (int gap : gaps.gaps(to - from)) {
+			hSort(arr, from, to, gap, 0, gap);
+		}
+	}
+
+	public static void parallelShellSort(int[] arr) {
+		parallelShellSort(arr, 0, arr.length, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * ϣ: ִΰѻɵָ߳, Сִΰ˳
+	 * @param arr 
+	 * @param from ʼ±()
+	 * @param to ±()
+	 * @param pool ĸ̳߳
+	 */
+	public static void parallelShellSort(int[] arr, int from, int to, ForkJoinPool pool) {
+		IntroSort.checkRange(arr.length, from, to);
+		int n = to - from;
+		Gaps gaps = Gaps.select(n, false);
+		if (n <= PARALLEL_THRESHOLD || pool.getParallelism() <= 1) {
+			shellSort(arr, from, to, gaps);
+			return;
+		}
+		int tasks = pool.getParallelism() * 4;
+		// ̳߳ invokeAll, fork ȥŻ pool
+		pool.invoke(ForkJoinTask.adapt(() -> {
+			for (int gap : gaps.gaps(n)) {
+				if (gap < PARALLEL_MIN_GAP) {
+					hSort(arr, from, to, gap, 0, gap);
+					continue;
+				}
+				int chainsPerTask = Math.max(MIN_CHAINS_PER_TASK, (gap + tasks - 1) / tasks);
+				List<ForkJoinTask<?>> list = new ArrayList<>();
+				for (int c = 0; c < gap; c += chainsPerTask) {
+					final int firstChain = c;
+					final int endChain = Math.min(gap, c + chainsPerTask);
+					list.add(ForkJoinTask.adapt(() -> hSort(arr, from, to, gap, firstChain, endChain)));
+				}
+				ForkJoinTask.invokeAll(list);
+			}
+		}));
+	}
+
+	/**
+	 * Ϊ gap һֲ, ֻŵ [firstChain, endChain) 
+	 *  c ± from + c, from + c + gap, from + c + 2 * gap ...
+	 * ־ firstChain = 0, endChain = gap
+	 */
+	static void hSort(int[] arr, int from, int to, int gap, int firstChain, int endChain) {
+		//˼·
+		//1. 俴ÿ gap Ԫصı, һһ
+		//2. ӵڶпʼһһеɨ, ÿֻɨ [firstChain, endChain) ⼸,
+		//   ÿԪ( gap)Ҳλ,  shellSort2 λһ
+		//3. һһеɨ, ڴ; ͬһеԪػǴϵ², һ
+		//4. ±궼Ⱥ to ټ: to  Integer.MAX_VALUE  gap ʱ, row + gaprow + endChain ᳬ int
+		int min = from + gap;
+		for (int row = min; row < to; row = to - row > gap ? row + gap : to) {
+			if (to - row <= firstChain) {
+				break; // һв, û⼸
+			}
+			int end = to - row > endChain ? row + endChain : to;
+			for (int i = row + firstChain; i < end; i++) {
+				int insertVal = arr[i];
+				int j = i;
+				while (j >= min && arr[j - gap] > insertVal) {
+					arr[j] = arr[j - gap];
+					j -= gap;
+				}
+				arr[j] = insertVal;
+			}
+		}
+	}
 }
@@ -0,0 +1,272 @@
+package com.atguigu.sort;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.atguigu.tree.HeapSort;
+
+/**
+ * 㷨ܲ
+ * ˵
+ * 1.  com.atguigu.sort ж int[] ķ,  tree.HeapSort, Լ Arrays.sort / Arrays.parallelSort 
+ * 2. ķֲ: random(), sorted(), reversed(), fewUnique(ֻ 16 ֵ), organPipe(),
+ *    zipf(Zipf ֲ, Сֵֵö), ֵǷǸ(simpleRadixSort Ÿ)
+ * 3. ÿһԤ, ظִе MIN_TIME_NANOS, ÿһֶͬһ븴һ(Ʋʱ),
+ *    ÿԪػÿԪطֽGC , һֵĽ Arrays.sort Ա, Ծͱ
+ * 4. O(n^2) 㷨ԭЩռڴ߻˻д, Ե maxSize , ̫
+ * 5. ֻֽ㵱ǰ߳, 㷨̳߳ڴ㲻
+ *
+ * ÷: java com.atguigu.sort.SortBenchmark [...] [-a=㷨, ŷָ] [-d=ֲ, ŷָ]
+ * ȿԴ K/M( 1000 ), Ĭ 1K 64K 1M 16M;  100M ʱǵõ -Xmx( 2G)
+ * : java -Xmx4g com.atguigu.sort.SortBenchmark 1M 100M -a=IntroSort,Radix -d=random,zipf
+ */
+public class SortBenchmark {
+
+	private static final long MIN_TIME_NANOS = 500_000_000L;
+	private static final long WARMUP_NANOS = 300_000_000L;
+	private static final int WARMUP_ROUNDS = 3;
+	/** O(n^2) 㷨ô */
+	private static final int QUADRATIC_MAX_SIZE = 100_000;
+	/** ԭд(simpleQuickSort Ҳ˻, simpleRadixSort Ҫ 10 ڴ)ô */
+	private static final int LEGACY_MAX_SIZE = 16_000_000;
+
+	private static final String[] DISTRIBUTIONS = { "random", "sorted", "reversed", "fewUnique", "organPipe", "zipf" };
+
+	/**
+	 * 
+	 */
+	private interface IntSort {
+		void sort(int[] arr);
+	}
+
+	/**
+	 * һҪ㷨: , ೤, ô
+	 */
+	private static class Algorithm {
+		final String name;
+		final int maxSize;
+		final IntSort sort;
+
+		Algorithm(String name, int maxSize, IntSort sort) {
+			this.name = name;
+			this.maxSize = maxSize;
+			this.sort = sort;
+		}
+	}
+
+	private static List<Algorithm> algorithms() {
+		List<Algorithm> list = new ArrayList<>();
+		//1. O(n^2) 
+		list.add(new Algorithm("BubbleSort.bubbleSort", QUADRATIC_MAX_SIZE, BubbleSort::bubbleSort));
+		list.add(new Algorithm("SelectSort.selectSort", QUADRATIC_MAX_SIZE, SelectSort::selectSort));
+		list.add(new Algorithm("InsertSort.insertSort", QUADRATIC_MAX_SIZE, InsertSort::insertSort));
+		list.add(new Algorithm("ShellSort.shellSort()", QUADRATIC_MAX_SIZE, ShellSort::shellSort));
+		//2. ԭд
+		list.add(new Algorithm("ShellSort.shellSort2", LEGACY_MAX_SIZE, ShellSort::shellSort2));
+		list.add(new Algorithm("QuickSort.simpleQuickSort", LEGACY_MAX_SIZE,
+				arr -> QuickSort.simpleQuickSort(arr, 0, arr.length - 1)));
+		list.add(new Algorithm("MergetSort.mergeSort", Integer.MAX_VALUE,
+				arr -> MergetSort.mergeSort(arr, 0, arr.length - 1, new int[arr.length])));
+		list.add(new Algorithm("RadixSort.simpleRadixSort", LEGACY_MAX_SIZE, RadixSort::simpleRadixSort));
+		list.add(new Algorithm("HeapSort.heapSort", Integer.MAX_VALUE, HeapSort::heapSort));
+		//3. µд
+		list.add(new Algorithm("ShellSort.adaptiveShellSort", Integer.MAX_VALUE, ShellSort::adaptiveShellSort));
+		list.add(new Algorithm("ShellSort.parallelShellSort", Integer.MAX_VALUE, ShellSort::parallelShellSort));
+		list.add(new Algorithm("IntroSort.sort", Integer.MAX_VALUE, IntroSort::sort));
+		list.add(new Algorithm("IntroSort.parallelSort", Integer.MAX_VALUE, IntroSort::parallelSort));
+		list.add(new Algorithm("QuickSort.quickSort", Integer.MAX_VALUE, arr -> QuickSort.quickSort(arr, 0, arr.length - 1)));
+		list.add(new Algorithm("MergetSort.bottomUpMergeSort", Integer.MAX_VALUE, MergetSort::bottomUpMergeSort));
+		list.add(new Algorithm("MergetSort.naturalMergeSort", Integer.MAX_VALUE, MergetSort::naturalMergeSort));
+		list.add(new Algorithm("MergetSort.parallelMergeSort", Integer.MAX_VALUE, MergetSort::parallelMergeSort));
+		list.add(new Algorithm("RadixSort.lsdRadixSort", Integer.MAX_VALUE, RadixSort::lsdRadixSort));
+		list.add(new Algorithm("RadixSort.parallelRadixSort", Integer.MAX_VALUE, RadixSort::parallelRadixSort));
+		list.add(new Algorithm("HeapSort.bottomUpHeapSort", Integer.MAX_VALUE, HeapSort::bottomUpHeapSort));
+		list.add(new Algorithm("HeapSort.dAryHeapSort", Integer.MAX_VALUE, HeapSort::dAryHeapSort));
+		//4. 
+		list.add(new Algorithm("Arrays.sort", Integer.MAX_VALUE, Arrays::sort));
+		list.add(new Algorithm("Arrays.parallelSort", Integer.MAX_VALUE, Arrays::parallelSort));
+		return list;
+	}
+
+	public static void main(String[] args) {
+		List<String> sizes = new ArrayList<>();
+		String[] algorithmFilter = null;
+		String[] distributions = DISTRIBUTIONS;
+		for (String arg : args) {
+			if (arg.startsWith("-a=")) {
+				algorithmFilter = arg.substring(3).split(",");
+			} else if (arg.startsWith("-d=")) {
+				distributions = arg.substring(3).split(",");
+			} else {
+				sizes.add(arg);
+			}
+		}
+		if (sizes.isEmpty()) {
+			sizes.addAll(Arrays.asList("1K", "64K", "1M", "16M"));
+		}
+		List<Algorithm> algorithms = new ArrayList<>();
+		for (Algorithm algorithm : algorithms()) {
+			if (matches(algorithm.name, algorithmFilter)) {
+				algorithms.add(algorithm);
+			}
+		}
+
+		System.out.printf("%-10s %-10s %-30s %10s %12s %6s %6s%n", "ֲ", "", "㷨", "ns/Ԫ", "B/Ԫ", "GC", "");
+		for (String size : sizes) {
+			int n = parseSize(size);
+			for (String distribution : distributions) {
+				int[] input = generate(distribution, n, 2019);
+				int[] expected = input.clone();
+				Arrays.sort(expected);
+				int[] work = new int[n];
+				for (Algorithm algorithm : algorithms) {
+					if (n > algorithm.maxSize) {
+						continue;
+					}
+					run(distribution, size, algorithm, input, expected, work);
+				}
+			}
+		}
+	}
+
+	private static boolean matches(String name, String[] filter) {
+		if (filter == null) {
+			return true;
+		}
+		for (String f : filter) {
+			if (name.contains(f.trim())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void run(String distribution, String size, Algorithm algorithm, int[] input, int[] expected,
+			int[] work) {
+		//1. Ԥ:  WARMUP_ROUNDS ,  WARMUP_NANOS ͲԤ; һ˳
+		boolean correct = true;
+		long warmupStart = System.nanoTime();
+		for (int i = 0; i < WARMUP_ROUNDS && (i == 0 || System.nanoTime() - warmupStart < WARMUP_NANOS); i++) {
+			System.arraycopy(input, 0, work, 0, input.length);
+			try {
+				algorithm.sort.sort(work);
+			} catch (StackOverflowError e) {
+				// ԭ simpleQuickSort ĳЩֲϵݹ̫
+				System.out.printf("%-10s %-10s %-30s ջ, %n", distribution, size, algorithm.name);
+				return;
+			}
+			if (i == 0) {
+				correct = Arrays.equals(work, expected);
+			}
+		}
+
+		//2. ʱ: ÿָ벻ʱ, һֱŵܵʱ䲻 MIN_TIME_NANOS
+		long gcBefore = gcCount();
+		long allocatedBefore = allocatedBytes();
+		long elapsed = 0;
+		int rounds = 0;
+		do {
+			System.arraycopy(input, 0, work, 0, input.length);
+			long start = System.nanoTime();
+			algorithm.sort.sort(work);
+			elapsed += System.nanoTime() - start;
+			rounds++;
+		} while (elapsed < MIN_TIME_NANOS);
+		long allocated = allocatedBytes() - allocatedBefore;
+		long gc = gcCount() - gcBefore;
+
+		double elements = (double) Math.max(1, input.length) * rounds;
+		System.out.printf("%-10s %-10s %-30s %10.2f %12.2f %6d %6d%s%n", distribution, size, algorithm.name,
+				elapsed / elements, allocatedBefore < 0 ? -1 : allocated / elements, gc, rounds,
+				correct ? "" : " !");
+	}
+
+	/**
+	 * @return ǰ߳һֽ, ֧ʱ -1
+	 */
+	private static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
+	private static long gcCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, bean.getCollectionCount());
+		}
+		return count;
+	}
+
+	/**
+	 * , K = 1000, M = 1000000
+	 */
+	private static int parseSize(String size) {
+		String s = size.trim().toUpperCase();
+		long unit = 1;
+		char last = s.charAt(s.length() - 1);
+		if (last == 'K' || last == 'M') {
+			unit = last == 'K' ? 1000 : 1000000;
+			s = s.substring(0, s.length() - 1);
+		}
+		long n = Long.parseLong(s) * unit;
+		if (n > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("̫: " + size);
+		}
+		return (int) n;
+	}
+
+	/**
+	 * 
+	 * @param distribution random/sorted/reversed/fewUnique/organPipe/zipf
+	 * @param n 
+	 * @param seed , ͬͬ
+	 */
+	static int[] generate(String distribution, int n, long seed) {
+		Random random = new Random(seed);
+		int[] arr = new int[n];
+		switch (distribution) {
+		case "random":
+			for (int i = 0; i < n; i++) {
+				arr[i] = random.nextInt(Integer.MAX_VALUE);
+			}
+			break;
+		case "sorted":
+			for (int i = 0; i < n; i++) {
+				arr[i] = i;
+			}
+			break;
+		case "reversed":
+			for (int i = 0; i < n; i++) {
+				arr[i] = n - i;
+			}
+			break;
+		case "fewUnique":
+			for (int i = 0; i < n; i++) {
+				arr[i] = random.nextInt(16);
+			}
+			break;
+		case "organPipe":
+			for (int i = 0; i < n; i++) {
+				arr[i] = i < n / 2 ? i : n - i;
+			}
+			break;
+		case "zipf":
+			//s = 1  Zipf ֲ: ֵ <= k ĸʴԼ ln(k) / ln(n),  k = n^u, u  [0, 1) ȷֲ
+			double logN = Math.log(Math.max(2, n));
+			for (int i = 0; i < n; i++) {
+				arr[i] = (int) Math.exp(random.nextDouble() * logN) - 1;
+			}
+			break;
+		default:
+			throw new IllegalArgumentException("ûֲַ: " + distribution);
+		}
+		return arr;
+	}
+}
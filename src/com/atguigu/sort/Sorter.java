@@ -0,0 +1,450 @@
+package com.atguigu.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * ͳһ: һöֵһ㷨, ֧ int[]long[]double[] + Comparator
+ * ˵
+ * 1. 㷨ֻҪһöֵ, ÷Ĵݶö,  Sorter.QUICK.sort(arr)  Sorter.RADIX.sort(arr)
+ * 2. ֱԭ, װ Integer/Long/Double
+ * 3. double[] ת" long": λģʽ, ѳλλȡ, ˳ͺ Double.compare һ
+ *    (-0.0  0.0 ǰ, NaN ), Ȼ long , ת; Ҫһһ long[]
+ * 4. (sortByInt/sortByLong/sortByDouble,  [from, to)): RADIX ÿԪֻȡһμٰ, 㷨 Comparator.comparingInt ֮ıȽ
+ * 5. û Comparator 㷨(RADIX)Ŷʱ MERGE
+ * 6. 䶼ҿ [from, to)
+ */
+public enum Sorter {
+
+	/** ð, ȶ, O(n^2), ֻʺϺС */
+	BUBBLE(true) {
+		@Override
+		void sortRange(int[] a, int from, int to) {
+			for (int end = to - 1; end > from; end--) {
+				boolean swapped = false;
+				for (int j = from; j < end; j++) {
+					if (a[j] > a[j + 1]) {
+						int temp = a[j];
+						a[j] = a[j + 1];
+						a[j + 1] = temp;
+						swapped = true;
+					}
+				}
+				if (!swapped) {
+					break; // һûн, ˵Ѿ
+				}
+			}
+		}
+
+		@Override
+		void sortRange(long[] a, int from, int to) {
+			for (int end = to - 1; end > from; end--) {
+				boolean swapped = false;
+				for (int j = from; j < end; j++) {
+					if (a[j] > a[j + 1]) {
+						long temp = a[j];
+						a[j] = a[j + 1];
+						a[j + 1] = temp;
+						swapped = true;
+					}
+				}
+				if (!swapped) {
+					break;
+				}
+			}
+		}
+
+		@Override
+		<T> void sortRange(T[] a, int from, int to, Comparator<? super T> c) {
+			for (int end = to - 1; end > from; end--) {
+				boolean swapped = false;
+				for (int j = from; j < end; j++) {
+					if (c.compare(a[j], a[j + 1]) > 0) {
+						T temp = a[j];
+						a[j] = a[j + 1];
+						a[j + 1] = temp;
+						swapped = true;
+					}
+				}
+				if (!swapped) {
+					break;
+				}
+			}
+		}
+	},
+
+	/** ѡ, ȶ, O(n^2) */
+	SELECT(false) {
+		@Override
+		void sortRange(int[] a, int from, int to) {
+			for (int i = from; i < to - 1; i++) {
+				int minIndex = i;
+				for (int j = i + 1; j < to; j++) {
+					if (a[j] < a[minIndex]) {
+						minIndex = j;
+					}
+				}
+				int temp = a[i];
+				a[i] = a[minIndex];
+				a[minIndex] = temp;
+			}
+		}
+
+		@Override
+		void sortRange(long[] a, int from, int to) {
+			for (int i = from; i < to - 1; i++) {
+				int minIndex = i;
+				for (int j = i + 1; j < to; j++) {
+					if (a[j] < a[minIndex]) {
+						minIndex = j;
+					}
+				}
+				long temp = a[i];
+				a[i] = a[minIndex];
+				a[minIndex] = temp;
+			}
+		}
+
+		@Override
+		<T> void sortRange(T[] a, int from, int to, Comparator<? super T> c) {
+			for (int i = from; i < to - 1; i++) {
+				int minIndex = i;
+				for (int j = i + 1; j < to; j++) {
+					if (c.compare(a[j], a[minIndex]) < 0) {
+						minIndex = j;
+					}
+				}
+				T temp = a[i];
+				a[i] = a[minIndex];
+				a[minIndex] = temp;
+			}
+		}
+	},
+
+	/** , ȶ, O(n^2), ߺСܿ */
+	INSERT(true) {
+		@Override
+		void sortRange(int[] a, int from, int to) {
+			IntroSort.insertionSort(a, from, to);
+		}
+
+		@Override
+		void sortRange(long[] a, int from, int to) {
+			IntroSort.insertionSort(a, from, to);
+		}
+
+		@Override
+		<T> void sortRange(T[] a, int from, int to, Comparator<? super T> c) {
+			IntroSort.insertionSort(a, from, to, c);
+		}
+	},
+
+	/** ϣ(λ,  ShellSort.Gaps.select ȺͱȽϴѡ), ȶ, Ҫռ */
+	SHELL(false) {
+		@Override
+		void sortRange(int[] a, int from, int to) {
+			ShellSort.shellSort(a, from, to, ShellSort.Gaps.select(to - from, false));
+		}
+
+		@Override
+		void sortRange(long[] a, int from, int to) {
+			for (int gap : ShellSort.Gaps.select(to - from, false).gaps(to - from)) {
+				for (int i = from + gap; i < to; i++) {
+					long insertVal = a[i];
+					int j = i;
+					while (j - gap >= from && a[j - gap] > insertVal) {
+						a[j] = a[j - gap];
+						j -= gap;
+					}
+					a[j] = insertVal;
+				}
+			}
+		}
+
+		@Override
+		<T> void sortRange(T[] a, int from, int to, Comparator<? super T> c) {
+			for (int gap : ShellSort.Gaps.select(to - from, true).gaps(to - from)) {
+				for (int i = from + gap; i < to; i++) {
+					T insertVal = a[i];
+					int j = i;
+					while (j - gap >= from && c.compare(a[j - gap], insertVal) > 0) {
+						a[j] = a[j - gap];
+						j -= gap;
+					}
+					a[j] = insertVal;
+				}
+			}
+		}
+	},
+
+	/** , ȶ, Ҳ O(nlogn), Ҫռ */
+	HEAP(false) {
+		@Override
+		void sortRange(int[] a, int from, int to) {
+			IntroSort.heapSort(a, from, to);
+		}
+
+		@Override
+		void sortRange(long[] a, int from, int to) {
+			IntroSort.heapSort(a, from, to);
+		}
+
+		@Override
+		<T> void sortRange(T[] a, int from, int to, Comparator<? super T> c) {
+			IntroSort.heapSort(a, from, to, c);
+		}
+	},
+
+	/** (IntroSort), ȶ, һıȽ */
+	QUICK(false) {
+		@Override
+		void sortRange(int[] a, int from, int to) {
+			IntroSort.sort(a, from, to);
+		}
+
+		@Override
+		void sortRange(long[] a, int from, int to) {
+			IntroSort.sort(a, from, to);
+		}
+
+		@Override
+		<T> void sortRange(T[] a, int from, int to, Comparator<? super T> c) {
+			IntroSort.sort(a, from, to, c);
+		}
+	},
+
+	/**
+	 * 鲢( + ɱ), ȶ, ݺܿ, Ҫһʱ
+	 * MergetSort ʱ鰴ԭ±, Ҫ to ô; 䲻 0 ʼʱȰ临Ƴ,
+	 * ĩβһСҲֻô, Ǻǰһ
+	 */
+	MERGE(true) {
+		@Override
+		void sortRange(int[] a, int from, int to) {
+			if (from == 0) {
+				MergetSort.naturalMergeSort(a, 0, to, new int[to]);
+				return;
+			}
+			int[] range = Arrays.copyOfRange(a, from, to);
+			MergetSort.naturalMergeSort(range, 0, range.length, new int[range.length]);
+			System.arraycopy(range, 0, a, from, range.length);
+		}
+
+		@Override
+		void sortRange(long[] a, int from, int to) {
+			if (from == 0) {
+				MergetSort.naturalMergeSort(a, 0, to, new long[to]);
+				return;
+			}
+			long[] range = Arrays.copyOfRange(a, from, to);
+			MergetSort.naturalMergeSort(range, 0, range.length, new long[range.length]);
+			System.arraycopy(range, 0, a, from, range.length);
+		}
+
+		@Override
+		<T> void sortRange(T[] a, int from, int to, Comparator<? super T> c) {
+			if (from == 0) {
+				MergetSort.naturalMergeSort(a, 0, to, c, Arrays.copyOf(a, to));
+				return;
+			}
+			T[] range = Arrays.copyOfRange(a, from, to);
+			MergetSort.naturalMergeSort(range, 0, range.length, c, range.clone());
+			System.arraycopy(range, 0, a, from, range.length);
+		}
+	},
+
+	/** LSD , ȶ, ȽԪ, ܶʱ;  + Comparator ʱ MERGE */
+	RADIX(true) {
+		@Override
+		void sortRange(int[] a, int from, int to) {
+			RadixSort.lsdRadixSort(a, from, to, new int[to - from]);
+		}
+
+		@Override
+		void sortRange(long[] a, int from, int to) {
+			RadixSort.lsdRadixSort(a, from, to, new long[to - from]);
+		}
+
+		@Override
+		<T> void sortRange(T[] a, int from, int to, Comparator<? super T> c) {
+			MERGE.sortRange(a, from, to, c);
+		}
+
+		@Override
+		public <T> void sortByInt(T[] a, int from, int to, ToIntFunction<? super T> key) {
+			RadixSort.lsdRadixSortByInt(a, from, to, key);
+		}
+
+		@Override
+		public <T> void sortByLong(T[] a, int from, int to, ToLongFunction<? super T> key) {
+			RadixSort.lsdRadixSortByLong(a, from, to, key);
+		}
+
+		@Override
+		public <T> void sortByDouble(T[] a, int from, int to, ToDoubleFunction<? super T> key) {
+			RadixSort.lsdRadixSortByLong(a, from, to, e -> toSortable(key.applyAsDouble(e)));
+		}
+	},
+
+	/**
+	 * ù ForkJoinPool : int[] òп, long[] ò MSD , òй鲢(ȶ)
+	 * ݲʱԶ˻ص߳
+	 */
+	PARALLEL(true) {
+		@Override
+		void sortRange(int[] a, int from, int to) {
+			IntroSort.parallelSort(a, from, to, ForkJoinPool.commonPool());
+		}
+
+		@Override
+		void sortRange(long[] a, int from, int to) {
+			RadixSort.parallelRadixSort(a, from, to, ForkJoinPool.commonPool());
+		}
+
+		@Override
+		<T> void sortRange(T[] a, int from, int to, Comparator<? super T> c) {
+			MergetSort.parallelMergeSort(a, from, to, c, Arrays.copyOf(a, to), ForkJoinPool.commonPool());
+		}
+	};
+
+	private final boolean stable;
+
+	Sorter(boolean stable) {
+		this.stable = stable;
+	}
+
+	public static void main(String[] args) {
+		int[] ints = { 3, -1, 4, 1, -5, 9, 2, 6 };
+		double[] doubles = { 3.5, -0.0, 0.0, Double.NaN, -2.25, Double.NEGATIVE_INFINITY, 1e300 };
+		String[] words = { "banana", "apple", "cherry", "date", "fig" };
+		for (Sorter sorter : values()) {
+			int[] a = ints.clone();
+			sorter.sort(a);
+			double[] d = doubles.clone();
+			sorter.sort(d);
+			String[] w = words.clone();
+			sorter.sortByInt(w, String::length);
+			System.out.println(sorter + " ȶ=" + sorter.isStable() + " " + Arrays.toString(a) + " "
+					+ Arrays.toString(d) + " " + Arrays.toString(w));
+		}
+	}
+
+	/**
+	 * 㷨ʵ, ǰѾ
+	 */
+	abstract void sortRange(int[] a, int from, int to);
+
+	abstract void sortRange(long[] a, int from, int to);
+
+	abstract <T> void sortRange(T[] a, int from, int to, Comparator<? super T> c);
+
+	/**
+	 * @return Ƿȶ: ȵԪǷ񱣳ԭȺ˳
+	 */
+	public boolean isStable() {
+		return stable;
+	}
+
+	public void sort(int[] a) {
+		sortRange(a, 0, a.length);
+	}
+
+	public void sort(int[] a, int from, int to) {
+		IntroSort.checkRange(a.length, from, to);
+		sortRange(a, from, to);
+	}
+
+	public void sort(long[] a) {
+		sortRange(a, 0, a.length);
+	}
+
+	public void sort(long[] a, int from, int to) {
+		IntroSort.checkRange(a.length, from, to);
+		sortRange(a, from, to);
+	}
+
+	public void sort(double[] a) {
+		sort(a, 0, a.length);
+	}
+
+	/**
+	 *  double , ˳ Arrays.sort(double[]) һ, NaN ɱ׼ Double.NaN
+	 */
+	public void sort(double[] a, int from, int to) {
+		IntroSort.checkRange(a.length, from, to);
+		long[] bits = new long[to - from];
+		for (int i = from; i < to; i++) {
+			bits[i - from] = toSortable(a[i]);
+		}
+		sortRange(bits, 0, bits.length);
+		for (int i = from; i < to; i++) {
+			a[i] = fromSortable(bits[i - from]);
+		}
+	}
+
+	/**
+	 * Ȼ˳Ŷ
+	 */
+	public <T extends Comparable<? super T>> void sort(T[] a) {
+		sortRange(a, 0, a.length, Comparator.<T> naturalOrder());
+	}
+
+	public <T> void sort(T[] a, Comparator<? super T> c) {
+		sortRange(a, 0, a.length, c);
+	}
+
+	public <T> void sort(T[] a, int from, int to, Comparator<? super T> c) {
+		IntroSort.checkRange(a.length, from, to);
+		sortRange(a, from, to, c);
+	}
+
+	/**
+	 *  int , Ƚʱװ
+	 * @param key ȡĺ
+	 */
+	public <T> void sortByInt(T[] a, ToIntFunction<? super T> key) {
+		sortByInt(a, 0, a.length, key);
+	}
+
+	/**
+	 *  int  [from, to)
+	 */
+	public <T> void sortByInt(T[] a, int from, int to, ToIntFunction<? super T> key) {
+		sort(a, from, to, Comparator.comparingInt(key));
+	}
+
+	public <T> void sortByLong(T[] a, ToLongFunction<? super T> key) {
+		sortByLong(a, 0, a.length, key);
+	}
+
+	public <T> void sortByLong(T[] a, int from, int to, ToLongFunction<? super T> key) {
+		sort(a, from, to, Comparator.comparingLong(key));
+	}
+
+	public <T> void sortByDouble(T[] a, ToDoubleFunction<? super T> key) {
+		sortByDouble(a, 0, a.length, key);
+	}
+
+	public <T> void sortByDouble(T[] a, int from, int to, ToDoubleFunction<? super T> key) {
+		sort(a, from, to, Comparator.comparingDouble(key));
+	}
+
+	/**
+	 * double תɿ԰ long ȽϴСλģʽ: λȫȡ
+	 */
+	static long toSortable(double d) {
+		long bits = Double.doubleToLongBits(d);
+		return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+	}
+
+	/**
+	 * toSortable (ͬһһ)
+	 */
+	static double fromSortable(long bits) {
+		return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+	}
+}
@@ -0,0 +1,133 @@
+package com.atguigu.sort;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * ʽ top-K: һһ(, ҲûȷŽһ), ʱõĿǰ k 
+ * ˵
+ * 1. һ k ԪصС, ѶĿǰ k СǸ, Ҳǽǰ k ż
+ * 2. ȶѶֱӶ, ֻȽһ; ȶѶ滻Ѷµ, O(logk)
+ * 3. ˳ʱ, Խܽǰ k Խ( i ܽĸ k/i), ܹ O(n + klogklog(n/k))
+ * 4. ֻ k , ڴ޹; ʵ IntConsumer, ֱ intStream.forEach(topK)
+ */
+public class TopK implements IntConsumer {
+
+	/** С, heap[0] С, i ӽ 2i+1, 2i+2 */
+	private final int[] heap;
+	private int size;
+	/** һյ˶ٸ */
+	private long offered;
+
+	/**
+	 * @param k  k , k >= 0
+	 */
+	public TopK(int k) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k=" + k);
+		}
+		this.heap = new int[k];
+	}
+
+	public static void main(String[] args) {
+		TopK topK = new TopK(3);
+		int[] arr = { -9, 78, 0, 23, -567, 70, -1, 900, 4561 };
+		for (int value : arr) {
+			topK.offer(value);
+			System.out.println("յ " + value + " ,  3 =" + Arrays.toString(topK.toSortedArray()));
+		}
+	}
+
+	/**
+	 * յһ
+	 * @return ǷĿǰǰ k 
+	 */
+	public boolean offer(int value) {
+		offered++;
+		if (size < heap.length) {
+			//ѻû: ŵ, ϵ
+			int i = size++;
+			while (i > 0) {
+				int parent = (i - 1) >>> 1;
+				if (heap[parent] <= value) {
+					break;
+				}
+				heap[i] = heap[parent];
+				i = parent;
+			}
+			heap[i] = value;
+			return true;
+		}
+		if (size == 0 || value <= heap[0]) {
+			return false;
+		}
+		//ż: 滻Ѷ, µ
+		int i = 0;
+		int k;
+		while ((k = 2 * i + 1) < size) {
+			if (k + 1 < size && heap[k + 1] < heap[k]) {
+				k++;
+			}
+			if (heap[k] >= value) {
+				break;
+			}
+			heap[i] = heap[k];
+			i = k;
+		}
+		heap[i] = value;
+		return true;
+	}
+
+	@Override
+	public void accept(int value) {
+		offer(value);
+	}
+
+	/**
+	 * һյһ
+	 */
+	public void offerAll(int[] arr, int from, int to) {
+		IntroSort.checkRange(arr.length, from, to);
+		for (int i = from; i < to; i++) {
+			offer(arr[i]);
+		}
+	}
+
+	/**
+	 * @return Ŀǰ˼(յ k ʱС k)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return һյ˶ٸ
+	 */
+	public long getOffered() {
+		return offered;
+	}
+
+	/**
+	 * ǰ k ż: ǰ k СǸ
+	 */
+	public int threshold() {
+		if (size == 0) {
+			throw new IllegalStateException("ûյ");
+		}
+		return heap[0];
+	}
+
+	/**
+	 * @return Ŀǰ k , ӴС, Ӱ֮
+	 */
+	public int[] toSortedArray() {
+		int[] top = Arrays.copyOf(heap, size);
+		IntroSort.sort(top);
+		for (int i = 0, j = size - 1; i < j; i++, j--) {
+			int temp = top[i];
+			top[i] = top[j];
+			top[j] = temp;
+		}
+		return top;
+	}
+}
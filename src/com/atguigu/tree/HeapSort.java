@@ -4,8 +4,24 @@ import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Date;
 
+/**
+ * 
+ * ˵
+ * 1. heapSort / adjustHeap д: (i ӽ 2i+1, 2i+2), µʱÿ:
+ *    ӽһ, ϴӽ temp ٱһ
+ * 2. bottomUpHeapSort  Floyd İ취: ׶λѶĩβԪ, Ҫײ,
+ *    Ȳ, Žϴӽһ·ߵҶ(ÿֻһ), ٴҶλ(ֻͨҪһ),
+ *    Ƚϴһ; Ƚϱ˵ int ʡµıȽϵֲһֱߵҶ, һ, ȽϹ(Ƚ϶)ʱ
+ * 3. dAryHeapSort  d (i ӽ d*i+1 ... d*i+d), Ҳ Floyd İ취:
+ *    (1) ֻ log_d(n), Ȼʱ, ÿһһλδ, , δҲ
+ *    (2) ͬһ d ӽǰŵ, d = 16 ʱ 64 ֽһ(Java Ʋʼַ, )
+ *    (3) ÿҪ d ӽ, Ƚϴ,  main Ĳ, 1000  int ʱ d = 8 
+ */
 public class HeapSort {
 
+	/** dAryHeapSort Ĭϼ, main  1000  int  8 , ԭ heapSort  15%  */
+	public static final int DEFAULT_ARITY = 8;
+
 	public static void main(String[] args) {
 		//Ҫ
 		//int arr[] = {4, 6, 8, 5, 9};
@@ -27,12 +43,88 @@ public class HeapSort {
 		String date2Str = simpleDateFormat.format(data2);
 		System.out.println("ǰʱ=" + date2Str);
 		//System.out.println("=" + Arrays.toString(arr));
+
+		// ԭ heapSort Ա, Ĭ 1000 , ڲĳ
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+		benchmark(n, 3);
+		// ڶһܴĳ, ٲһ(ֻʱһ), ±ᳬ int:
+		//  140000000 ʱ d = 16  16*j+1 Ѿ int(Ҫ -Xmx2g );  2^30 ʱѵ 2*j+1 Ҳᳬ
+		if (args.length > 1) {
+			benchmark(Integer.parseInt(args[1]), 1);
+		}
+	}
+
+	/**
+	 * ֶĶԱ: ͬ, ÿһ,  rounds , ƽĺʱ
+	 * " + ԭݵУһ", һź, n ܴʱռһڴ
+	 * @param n 鳤
+	 * @param rounds ʱĴ
+	 */
+	public static void benchmark(int n, int rounds) {
+		int[] data = new int[n];
+		for (int i = 0; i < n; i++) {
+			data[i] = (int) (Math.random() * Integer.MAX_VALUE);
+		}
+		long expected = checksum(data);
+		String[] names = { "heapSort(ԭĶ)", "bottomUpHeapSort( + Floyd)", "dAryHeapSort(d = 4)",
+				"dAryHeapSort(d = 8)", "dAryHeapSort(d = 16)" };
+		for (int k = 0; k < names.length; k++) {
+			long best = Long.MAX_VALUE;
+			long total = 0;
+			boolean ok = true;
+			for (int round = 0; round <= rounds; round++) {
+				int[] copy = data.clone();
+				long start = System.nanoTime();
+				switch (k) {
+				case 0:
+					heapSort(copy);
+					break;
+				case 1:
+					bottomUpHeapSort(copy);
+					break;
+				default:
+					dAryHeapSort(copy, 0, copy.length, 1 << k);
+					break;
+				}
+				long time = System.nanoTime() - start;
+				ok &= isSorted(copy) && checksum(copy) == expected;
+				//  0 , ʱ
+				if (round > 0) {
+					best = Math.min(best, time);
+					total += time;
+				}
+			}
+			System.out.printf("n=%d %-32s =%dms ƽ=%dms ȷ=%b%n", n, names[k], best / 1000000,
+					total / rounds / 1000000, ok);
+		}
+	}
+
+	/**
+	 * ˳޹صУ: ǰӦһ
+	 */
+	private static long checksum(int[] arr) {
+		long sum = 0;
+		long squares = 0;
+		for (int v : arr) {
+			sum += v;
+			squares += (long) v * v;
+		}
+		return sum * 31 + squares;
+	}
+
+	private static boolean isSorted(int[] arr) {
+		for (int i = 1; i < arr.length; i++) {
+			if (arr[i - 1] > arr[i]) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	//дһķ
 	public static void heapSort(int arr[]) {
 		int temp = 0;
-		System.out.println("!!");
+		//System.out.println("!!");
 		
 //		//ֲ
 //		adjustHeap(arr, 1, arr.length);
@@ -92,5 +184,140 @@ public class HeapSort {
 		//for ѭѾi Ϊֵ (ֲ)
 		arr[i] = temp;//tempֵŵλ
 	}
-	
+
+	public static void bottomUpHeapSort(int[] arr) {
+		bottomUpHeapSort(arr, 0, arr.length);
+	}
+
+	/**
+	 *  + Floyd µ,  [from, to) 
+	 * @param arr 
+	 * @param from ʼ±()
+	 * @param to ±()
+	 */
+	public static void bottomUpHeapSort(int[] arr, int from, int to) {
+		checkRange(arr.length, from, to);
+		int n = to - from;
+		//1. : һҶӽǰ
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			siftDownBottomUp(arr, from, i, n);
+		}
+		//2. Ѷ()ĩβ, ٵѶ
+		for (int j = n - 1; j > 0; j--) {
+			int temp = arr[from + j];
+			arr[from + j] = arr[from];
+			arr[from] = temp;
+			siftDownBottomUp(arr, from, 0, j);
+		}
+	}
+
+	/**
+	 * Floyd µ:  i Ϊ(± base, һ length )ɴ󶥶
+	 * @param arr 
+	 * @param base ѵĵ 0 Ԫ±
+	 * @param i ҪĽ
+	 * @param length жٸԪ
+	 */
+	static void siftDownBottomUp(int[] arr, int base, int i, int length) {
+		//˼·
+		//1. Ȳ temp, ϴӽ, һֱߵҶ, ÿֻȽӽһ
+		//2. ٴҶ,  temp СͰѸŻ( 1 ȥ), ֱ㲻 temp С߻ص i
+		//3.  temp ŵͣλ
+		//j <= lastParent ʱӽ; ֱж 2 * j + 1 < length,  2^30 ʱ 2 * j + 1 ᳬ int ɸ
+		int temp = arr[base + i];
+		int j = i;
+		int lastParent = length < 2 ? -1 : (length - 2) / 2;
+		while (j <= lastParent) {
+			int k = 2 * j + 1;
+			if (k + 1 < length && arr[base + k] < arr[base + k + 1]) {
+				k++;
+			}
+			arr[base + j] = arr[base + k];
+			j = k;
+		}
+		while (j > i) {
+			int parent = (j - 1) / 2;
+			if (arr[base + parent] >= temp) {
+				break;
+			}
+			arr[base + j] = arr[base + parent];
+			j = parent;
+		}
+		arr[base + j] = temp;
+	}
+
+	public static void dAryHeapSort(int[] arr) {
+		dAryHeapSort(arr, 0, arr.length, DEFAULT_ARITY);
+	}
+
+	/**
+	 * d  + Floyd µ,  [from, to) 
+	 * @param arr 
+	 * @param from ʼ±()
+	 * @param to ±()
+	 * @param d ,  2
+	 */
+	public static void dAryHeapSort(int[] arr, int from, int to, int d) {
+		checkRange(arr.length, from, to);
+		if (d < 2) {
+			throw new IllegalArgumentException("d  2: " + d);
+		}
+		int n = to - from;
+		//1. : һҶӽһԪ(n - 1)ĸ
+		for (int i = (n - 2) / d; i >= 0 && n > 1; i--) {
+			siftDownDAry(arr, from, i, n, d);
+		}
+		//2. Ѷĩβ, ٵѶ
+		for (int j = n - 1; j > 0; j--) {
+			int temp = arr[from + j];
+			arr[from + j] = arr[from];
+			arr[from] = temp;
+			siftDownDAry(arr, from, 0, j, d);
+		}
+	}
+
+	/**
+	 * d ѵ Floyd µ,  siftDownBottomUp һ, ֻӽ d*j+1 ... d*j+d,  (j-1)/d
+	 *  siftDownBottomUp һ j <= lastParent жûӽ: d = 8 ʱ 2^28 , d*j+1 ͻᳬ int
+	 */
+	static void siftDownDAry(int[] arr, int base, int i, int length, int d) {
+		int temp = arr[base + i];
+		int j = i;
+		int lastParent = length < 2 ? -1 : (length - 2) / d;
+		while (j <= lastParent) {
+			// d ӽ(һܲ), ǰŵ
+			// if  ?: : дͺ, һ±Ҫһ֪, CPU ǰȥһ, ʵⷴܶ
+			int first = d * j + 1;
+			int last = first + Math.min(d, length - first);
+			int max = first;
+			int maxVal = arr[base + first];
+			for (int k = first + 1; k < last; k++) {
+				int v = arr[base + k];
+				if (v > maxVal) {
+					max = k;
+					maxVal = v;
+				}
+			}
+			arr[base + j] = maxVal;
+			j = max;
+		}
+		while (j > i) {
+			int parent = (j - 1) / d;
+			if (arr[base + parent] >= temp) {
+				break;
+			}
+			arr[base + j] = arr[base + parent];
+			j = parent;
+		}
+		arr[base + j] = temp;
+	}
+
+	/**
+	 *  [from, to) ǲ鷶Χ
+	 */
+	private static void checkRange(int length, int from, int to) {
+		if (from < 0 || to > length || from > to) {
+			throw new ArrayIndexOutOfBoundsException("from=" + from + ", to=" + to + ", length=" + length);
+		}
+	}
 }